@@ -0,0 +1,70 @@
+package com.purepigeon.test.utils.benchmark;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import com.purepigeon.test.utils.impl.gson.GsonTestingUtils;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.impl.jackson2.Jackson2TestingUtils;
+import com.purepigeon.test.utils.impl.jsonb.JsonbTestingUtils;
+import jakarta.json.bind.JsonbBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * <p>
+ *     The {@link com.purepigeon.test.utils.TestingUtils} implementations under benchmark, each created with the default
+ *     configuration of its mapper.
+ * </p>
+ */
+public enum Backend {
+
+    JACKSON {
+        @Override
+        AbstractTestingUtils create() {
+            return new JacksonTestingUtils(JsonMapper.builder().build());
+        }
+    },
+
+    JACKSON2 {
+        @Override
+        @SuppressWarnings("removal")
+        AbstractTestingUtils create() {
+            return new Jackson2TestingUtils(new com.fasterxml.jackson.databind.ObjectMapper());
+        }
+    },
+
+    GSON {
+        @Override
+        AbstractTestingUtils create() {
+            return new GsonTestingUtils(new Gson());
+        }
+    },
+
+    JSONB {
+        @Override
+        AbstractTestingUtils create() {
+            return new JsonbTestingUtils(JsonbBuilder.create());
+        }
+    };
+
+    abstract AbstractTestingUtils create();
+}
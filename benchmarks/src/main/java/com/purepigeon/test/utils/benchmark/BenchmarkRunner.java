@@ -0,0 +1,52 @@
+package com.purepigeon.test.utils.benchmark;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ *     Entry point of the benchmarks jar. Accepts the same arguments as the JMH command line, and always attaches the
+ *     {@link GCProfiler}, so that the allocation rate is reported next to the throughput of each benchmark.
+ * </p>
+ * <p>
+ *     For example, to compare the backends reading large arrays only:
+ * </p>
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar readObject -p payload=LARGE_ARRAY
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build()
+        ).run();
+    }
+}
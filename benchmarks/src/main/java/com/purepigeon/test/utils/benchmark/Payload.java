@@ -0,0 +1,150 @@
+package com.purepigeon.test.utils.benchmark;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.benchmark.model.Address;
+import com.purepigeon.test.utils.benchmark.model.Customer;
+import com.purepigeon.test.utils.benchmark.model.Item;
+import com.purepigeon.test.utils.benchmark.model.Order;
+import com.purepigeon.test.utils.benchmark.model.Page;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     The shapes of the payloads under benchmark. The {@code size} of a payload is the number of items it contains,
+ *     or the number of tags in case of {@link #FLAT}.
+ * </p>
+ */
+public enum Payload {
+
+    /**
+     * <p>A single object of scalar fields and a list of strings, read as a {@link Class}.</p>
+     */
+    FLAT {
+        @Override
+        Object create(int size) {
+            return item(0, size);
+        }
+
+        @Override
+        Object readObject(TestingUtils testingUtils, String testCase, String artifactName) {
+            return testingUtils.readObject(testCase, DefaultArtifactType.INPUT, artifactName, Item.class);
+        }
+
+        @Override
+        Object jsonToObject(TestingUtils testingUtils, String json) {
+            return testingUtils.jsonToObject(json, Item.class);
+        }
+    },
+
+    /**
+     * <p>An object nesting other objects three levels deep, and a list of objects, read as a {@link Class}.</p>
+     */
+    NESTED {
+        @Override
+        Object create(int size) {
+            Address address = new Address("1 Main Street", "Springfield", "12345", "US");
+            Customer customer = new Customer("customer-0", "Jane Doe", "jane.doe@example.com", address, address);
+            return new Order("order-0", "2025-01-10T12:30:15.123Z", customer, items(size));
+        }
+
+        @Override
+        Object readObject(TestingUtils testingUtils, String testCase, String artifactName) {
+            return testingUtils.readObject(testCase, DefaultArtifactType.INPUT, artifactName, Order.class);
+        }
+
+        @Override
+        Object jsonToObject(TestingUtils testingUtils, String json) {
+            return testingUtils.jsonToObject(json, Order.class);
+        }
+    },
+
+    /**
+     * <p>A top level array of objects, read as a {@link Class}.</p>
+     */
+    LARGE_ARRAY {
+        @Override
+        Object create(int size) {
+            return items(size).toArray(Item[]::new);
+        }
+
+        @Override
+        Object readObject(TestingUtils testingUtils, String testCase, String artifactName) {
+            return testingUtils.readObject(testCase, DefaultArtifactType.INPUT, artifactName, Item[].class);
+        }
+
+        @Override
+        Object jsonToObject(TestingUtils testingUtils, String json) {
+            return testingUtils.jsonToObject(json, Item[].class);
+        }
+    },
+
+    /**
+     * <p>A generic object wrapping a list of objects, read as a {@link TypeRef}.</p>
+     */
+    GENERIC {
+        @Override
+        Object create(int size) {
+            return new Page<>(0, size, size, items(size));
+        }
+
+        @Override
+        Object readObject(TestingUtils testingUtils, String testCase, String artifactName) {
+            return testingUtils.readObject(testCase, DefaultArtifactType.INPUT, artifactName, new TypeRef<Page<Item>>() {});
+        }
+
+        @Override
+        Object jsonToObject(TestingUtils testingUtils, String json) {
+            return testingUtils.jsonToObject(json, new TypeRef<Page<Item>>() {});
+        }
+    };
+
+    abstract Object create(int size);
+
+    abstract Object readObject(TestingUtils testingUtils, String testCase, String artifactName);
+
+    abstract Object jsonToObject(TestingUtils testingUtils, String json);
+
+    // --
+
+    private static List<Item> items(int size) {
+        return IntStream.range(0, size)
+            .mapToObj(index -> item(index, 3))
+            .toList();
+    }
+
+    private static Item item(int index, int tags) {
+        return new Item(
+            "item-" + index,
+            "Item " + index,
+            "A moderately long description of item " + index + ", to give the payload some realistic string content.",
+            index % 10 + 1,
+            index * 1.25 + 0.99,
+            index % 2 == 0,
+            IntStream.range(0, tags).mapToObj(tag -> "tag-" + tag).toList()
+        );
+    }
+}
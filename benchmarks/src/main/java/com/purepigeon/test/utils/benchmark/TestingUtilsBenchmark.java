@@ -0,0 +1,112 @@
+package com.purepigeon.test.utils.benchmark;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.InMemoryArtifactSource;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Measures the throughput of the core {@link TestingUtils} operations, for every {@link Backend}, {@link Payload}
+ *     shape and size.
+ * </p>
+ * <p>
+ *     Artifacts are served from memory, so that the numbers reflect parsing, mapping and comparison rather than disk
+ *     access. Both the input and the expected artifact hold the payload, as serialized by the backend itself.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestingUtilsBenchmark {
+
+    private static final String SUITE = "benchmark";
+    private static final String TEST_CASE = "payload";
+    private static final String ARTIFACT_NAME = "Payload.json";
+
+    @Param
+    public Backend backend;
+
+    @Param
+    public Payload payload;
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private TestingUtils testingUtils;
+
+    private Object object;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        AbstractTestingUtils instance = backend.create();
+        object = payload.create(size);
+        json = instance.objectToJson(object);
+
+        instance.setSuite(SUITE);
+        instance.setArtifactSource(new InMemoryArtifactSource()
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, ARTIFACT_NAME), json)
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.EXPECTED, ARTIFACT_NAME), json));
+
+        testingUtils = instance;
+    }
+
+    @Benchmark
+    public Object readObject() {
+        return payload.readObject(testingUtils, TEST_CASE, ARTIFACT_NAME);
+    }
+
+    @Benchmark
+    public Object jsonToObject() {
+        return payload.jsonToObject(testingUtils, json);
+    }
+
+    @Benchmark
+    public String objectToJson() {
+        return testingUtils.objectToJson(object);
+    }
+
+    @Benchmark
+    public void assertObject() {
+        testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, object);
+    }
+}
@@ -25,18 +25,29 @@ import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
 import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
 import com.purepigeon.test.utils.mockwebserver.impl.MockWebServerSupportImpl;
+import com.purepigeon.test.utils.mockwebserver.pool.PooledMockWebServerSupport;
+import com.purepigeon.test.utils.mockwebserver.routing.RequestPattern;
+import com.purepigeon.test.utils.mockwebserver.routing.RoutingDispatcher;
 import mockwebserver3.MockWebServer;
 import mockwebserver3.RecordedRequest;
 import okhttp3.Headers;
+import okhttp3.HttpUrl;
 
 /**
  * <p> This interface is a wrapper for okhttp3 {@link MockWebServer}. </p>
  * <p>
- *     It provides convenience methods similar to the {@link TestingUtils} interface for enqueuing responses and
- *     asserting on received requests. The default implementation - {@link MockWebServerSupportImpl} - integrates with
- *     {@link TestingUtils}.
+ *     It provides convenience methods similar to the {@link TestingUtils} interface for enqueuing or routing responses
+ *     and asserting on received requests. The default implementation - {@link MockWebServerSupportImpl} - integrates
+ *     with {@link TestingUtils}.
  * </p>
  * <p> {@link MockWebServerSupport#unwrap()} can be used to access the underlying mock web server. </p>
+ * <p>
+ *     Routing - {@link #routeResource(RequestPattern, String, String, String, int, Headers)} and the methods delegating
+ *     to it - is an optional operation: implementations that do not support it throw
+ *     {@link UnsupportedOperationException}, as the default method does. Implementations written against earlier
+ *     versions of this interface therefore keep compiling, but tests must not route responses through them.
+ *     {@link MockWebServerSupportImpl} supports routing, and so do the instances of {@link #createPooled}.
+ * </p>
  * @see MockWebServerSupportImpl
  * @see WithMockWebServer
  */
@@ -51,6 +62,18 @@ public interface MockWebServerSupport {
         return new MockWebServerSupportImpl(testingUtils);
     }
 
+    /**
+     * <p>
+     *     Convenience factory method to create a pooled instance, handing each thread a server of its own - see
+     *     {@link PooledMockWebServerSupport}. The servers use the default implementation.
+     * </p>
+     * @param testingUtils the testing utils instance to use
+     * @return Pooled instance with default implementation
+     */
+    static PooledMockWebServerSupport createPooled(TestingUtils testingUtils) {
+        return new PooledMockWebServerSupport(() -> new MockWebServerSupportImpl(testingUtils));
+    }
+
     /**
      * <p> Start the mock web server on a random unused port. </p>
      */
@@ -67,12 +90,52 @@ public interface MockWebServerSupport {
      */
     void stop();
 
+    /**
+     * <p> Check whether the mock web server is started. </p>
+     * @return {@code true} if the server is started
+     */
+    default boolean isStarted() {
+        return unwrap().getStarted();
+    }
+
+    /**
+     * <p>
+     *     Reset the mock web server to a clean state, without stopping it: pending responses and routes are discarded,
+     *     recorded requests are drained, and the dispatcher is restored. The server keeps its port and its open
+     *     connections, so it can be reused by the next test - see {@link WithMockWebServer#lifecycle()}.
+     * </p>
+     * <p>
+     *     The {@link MockWebServer#getRequestCount() request count} of the server is not reset. The default
+     *     implementation falls back to {@link #stop() stopping} the server and starting it again on the same port,
+     *     which closes its open connections.
+     * </p>
+     */
+    default void reset() {
+        if (!isStarted()) {
+            stop();
+            return;
+        }
+
+        int port = port();
+        stop();
+        start(port);
+    }
+
     /**
      * <p> Get the port that the started mock web server is listening on. </p>
      * @return Actual port
      */
     int port();
 
+    /**
+     * <p> Get the URL of the given path on the started mock web server, e.g. to use as base URL of a client. </p>
+     * @param path the path, e.g. {@code "/"}
+     * @return URL of the path
+     */
+    default HttpUrl url(String path) {
+        return unwrap().url(path);
+    }
+
     /**
      * <p> Enqueue a response based on an input resource whose name will be resolved from {@code clazz}. </p>
      * <p> Response status will be {@code 200}, with one header {@code Content-Type: application/json} </p>
@@ -162,6 +225,80 @@ public interface MockWebServerSupport {
      */
     void enqueueResource(String testCase, String artifactType, String artifactName, int status, Headers headers);
 
+    /**
+     * <p>
+     *     Like {@link MockWebServerSupport#enqueueResource(String, String, String, int, Headers)}, but the body of the
+     *     response is streamed from the artifact when the response is served, rather than read into memory when it is
+     *     enqueued. Memory use stays constant regardless of the size of the artifact, which makes this variant fit
+     *     for large payloads, e.g. downloads of hundreds of megabytes.
+     * </p>
+     * <p>
+     *     The artifact is read again each time a response enqueued this way is served, and its contents are sent as
+     *     is. The default implementation falls back to
+     *     {@link MockWebServerSupport#enqueueResource(String, String, String, int, Headers)}.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact filename
+     * @param status the response status
+     * @param headers the response headers
+     */
+    default void enqueueResourceStreaming(String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        enqueueResource(testCase, artifactType, artifactName, status, headers);
+    }
+
+    /**
+     * <p>
+     *     Respond to all requests matching the given pattern with the {@link DefaultArtifactType#INPUT input} artifact
+     *     named by convention after the pattern - see {@link RequestPattern#artifactFileName()} - status {@code 200}
+     *     and JSON content type.
+     * </p>
+     * @param testCase the test case
+     * @param pattern the requests to respond to, without wildcards
+     * @throws UnsupportedOperationException if this implementation does not support routing
+     * @see MockWebServerSupport#routeResource(RequestPattern, String, String, String, int, Headers)
+     */
+    default void routeInputResource(String testCase, RequestPattern pattern) {
+        routeInputResource(testCase, pattern, pattern.artifactFileName());
+    }
+
+    /**
+     * <p>
+     *     Respond to all requests matching the given pattern with the given {@link DefaultArtifactType#INPUT input}
+     *     artifact, status {@code 200} and JSON content type.
+     * </p>
+     * @param testCase the test case
+     * @param pattern the requests to respond to
+     * @param artifactName the artifact filename
+     * @throws UnsupportedOperationException if this implementation does not support routing
+     * @see MockWebServerSupport#routeResource(RequestPattern, String, String, String, int, Headers)
+     */
+    default void routeInputResource(String testCase, RequestPattern pattern, String artifactName) {
+        routeResource(pattern, testCase, DefaultArtifactType.INPUT, artifactName, 200, Headers.of("Content-Type", "application/json"));
+    }
+
+    /**
+     * <p>
+     *     The full method for routing responses. Unlike enqueued responses, which are served once each, in order, a
+     *     route serves every request matching its pattern, in any order and concurrently - use routes for clients that
+     *     issue requests in parallel. Requests matching no route are served from the queue of enqueued responses.
+     * </p>
+     * <p>
+     *     See {@link RoutingDispatcher} for the details. This is an optional operation, which the default
+     *     implementation does not support - see {@link MockWebServerSupport}.
+     * </p>
+     * @param pattern the requests to respond to
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact filename
+     * @param status the response status
+     * @param headers the response headers
+     * @throws UnsupportedOperationException if this implementation does not support routing
+     */
+    default void routeResource(RequestPattern pattern, String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support routing");
+    }
+
     /**
      * <p> Blocks until a recorded request is available to return, for a maximum of 60 seconds. </p>
      * @return The next recorded request in the queue
@@ -87,6 +87,16 @@ public @interface EnqueueResponse {
      */
     String contentType() default "application/json";
 
+    /**
+     * <p>
+     *     Whether to stream the body of the response from the artifact when it is served, rather than reading it when
+     *     it is enqueued - see {@link com.purepigeon.test.utils.mockwebserver.MockWebServerSupport#enqueueResourceStreaming}.
+     * </p>
+     * <p> The default is {@code false}. </p>
+     * @return Whether to stream the response body
+     */
+    boolean streaming() default false;
+
     /**
      * <p> Helper annotation for repeatability. </p>
      */
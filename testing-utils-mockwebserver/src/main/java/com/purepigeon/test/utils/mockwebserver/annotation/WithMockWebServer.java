@@ -22,6 +22,7 @@ package com.purepigeon.test.utils.mockwebserver.annotation;
 
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.extension.TestingUtilsExtension;
 import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
 import com.purepigeon.test.utils.mockwebserver.config.TestingUtilsMockWebServerAutoConfiguration;
 import com.purepigeon.test.utils.mockwebserver.extension.TestingUtilsMockWebServerExtension;
@@ -38,7 +39,9 @@ import java.lang.annotation.*;
  * </p>
  * <p>
  *     Registers the {@link TestingUtilsMockWebServerExtension} extension and adds a {@link MockWebServerSupport} bean
- *     to the application context via importing {@link TestingUtilsMockWebServerAutoConfiguration}.
+ *     to the application context via importing {@link TestingUtilsMockWebServerAutoConfiguration}. The
+ *     {@link TestingUtilsExtension} is registered ahead of it - unless registered already - so that the
+ *     {@link com.purepigeon.test.utils.context.TestContext} of each test is bound before its server is started.
  * </p>
  * <p>
  *     For example:
@@ -85,7 +88,7 @@ import java.lang.annotation.*;
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
-@ExtendWith(TestingUtilsMockWebServerExtension.class)
+@ExtendWith({ TestingUtilsExtension.class, TestingUtilsMockWebServerExtension.class })
 @Import(TestingUtilsMockWebServerAutoConfiguration.class)
 public @interface WithMockWebServer {
     /**
@@ -99,4 +102,48 @@ public @interface WithMockWebServer {
      * @return Port int value
      */
     int value() default 0;
+
+    /**
+     * <p>
+     *     How long a mock web server started for a test is kept running.
+     * </p>
+     * <p>
+     *     The default is {@link Lifecycle#PER_TEST}.
+     * </p>
+     * @return The lifecycle of the mock web server
+     */
+    Lifecycle lifecycle() default Lifecycle.PER_TEST;
+
+    /**
+     * <p> How long a mock web server started for a test is kept running. </p>
+     */
+    enum Lifecycle {
+        /**
+         * <p> The server is started before each test method, and stopped after it. </p>
+         */
+        PER_TEST,
+
+        /**
+         * <p>
+         *     The server is started before the first test method of the test class that finds it stopped, and
+         *     {@link MockWebServerSupport#reset() reset} after each test method, rather than stopped. It is stopped
+         *     once all tests of the class are done. This saves binding a socket and starting threads per test, and
+         *     lets clients keep their pooled connections.
+         * </p>
+         * <p>
+         *     Without Spring, the {@link MockWebServerSupport} field must hold the same instance for all tests for the
+         *     server to be reused, e.g. by being static, or by using the per-class test instance lifecycle.
+         * </p>
+         */
+        PER_CLASS,
+
+        /**
+         * <p>
+         *     Like {@link #PER_CLASS}, but the server is only stopped once all tests of the run are done, so that test
+         *     classes sharing a {@link MockWebServerSupport} - such as the bean of a cached Spring context - share the
+         *     running server as well.
+         * </p>
+         */
+        PER_RUN
+    }
 }
@@ -21,17 +21,34 @@ package com.purepigeon.test.utils.mockwebserver.config;
  */
 
 import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.listener.TestingUtilsListener;
 import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
 import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
 import com.purepigeon.test.utils.mockwebserver.impl.MockWebServerSupportImpl;
+import com.purepigeon.test.utils.mockwebserver.pool.PooledMockWebServerSupport;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import okhttp3.HttpUrl;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
+import java.util.function.Supplier;
+
 /**
  * <p>
- *     Autoconfiguration that adds a {@link MockWebServerSupport} bean to the application context.
+ *     Autoconfiguration that adds a {@link MockWebServerSupport} bean to the application context. The
+ *     {@link TestingUtilsListener} beans of the application context are registered as its listeners.
+ * </p>
+ * <p>
+ *     Setting the {@value PooledMockWebServerSupport#ENABLED_PROPERTY} property to {@code true} makes the bean a
+ *     {@link PooledMockWebServerSupport}, so that tests sharing the application context can run in parallel.
+ * </p>
+ * <p>
+ *     Clients created once per application context should resolve the URL of the server per request rather than at
+ *     creation, e.g. via the {@code mockWebServerUrl} bean - a {@code Supplier<HttpUrl>} of the base URL of the server
+ *     of the calling test.
  * </p>
  * @see WithMockWebServer
  */
@@ -40,9 +57,31 @@ import org.springframework.context.annotation.Bean;
 public class TestingUtilsMockWebServerAutoConfiguration {
 
     @Bean
+    @ConditionalOnProperty(name = PooledMockWebServerSupport.ENABLED_PROPERTY, havingValue = "false", matchIfMissing = true)
     public MockWebServerSupport mockWebServerSupport(
-        TestingUtils testingUtils
+        TestingUtils testingUtils,
+        ObjectProvider<TestingUtilsListener> listeners
+    ) {
+        return createMockWebServerSupport(testingUtils, listeners);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = PooledMockWebServerSupport.ENABLED_PROPERTY, havingValue = "true")
+    public PooledMockWebServerSupport pooledMockWebServerSupport(
+        TestingUtils testingUtils,
+        ObjectProvider<TestingUtilsListener> listeners
     ) {
-        return new MockWebServerSupportImpl(testingUtils);
+        return new PooledMockWebServerSupport(() -> createMockWebServerSupport(testingUtils, listeners));
+    }
+
+    @Bean
+    public Supplier<HttpUrl> mockWebServerUrl(MockWebServerSupport mockWebServerSupport) {
+        return () -> mockWebServerSupport.url("/");
+    }
+
+    private static MockWebServerSupportImpl createMockWebServerSupport(TestingUtils testingUtils, ObjectProvider<TestingUtilsListener> listeners) {
+        var mockWebServerSupport = new MockWebServerSupportImpl(testingUtils);
+        listeners.orderedStream().forEach(mockWebServerSupport::addListener);
+        return mockWebServerSupport;
     }
 }
@@ -26,6 +26,8 @@ import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
 import com.purepigeon.test.utils.mockwebserver.annotation.EnqueueResponse;
 import com.purepigeon.test.utils.mockwebserver.annotation.MockWebServerlessTest;
 import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
+import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer.Lifecycle;
+import com.purepigeon.test.utils.mockwebserver.pool.PooledMockWebServerSupport;
 import lombok.SneakyThrows;
 import okhttp3.Headers;
 import org.junit.jupiter.api.extension.*;
@@ -36,13 +38,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p> Junit 5 extension that: </p>
  * <ul>
  *     <li> Starts a mock web server before each test method </li>
- *     <li> Stops the mock web server after each test method </li>
+ *     <li>
+ *         Stops the mock web server after each test method, or resets it and keeps it running for the next one,
+ *         depending on {@link WithMockWebServer#lifecycle()}
+ *     </li>
  *     <li> Handles the {@link EnqueueResponse} and {@link MockWebServerlessTest} annotations </li>
  * </ul>
  * <p>
@@ -58,108 +65,200 @@ import java.util.Optional;
  */
 public class TestingUtilsMockWebServerExtension implements TestInstancePostProcessor, BeforeEachCallback, AfterEachCallback {
 
-    private int port = 0;
-    private boolean usesSpring = true;
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestingUtilsMockWebServerExtension.class);
+
+    private static final String STATE_KEY = "state";
 
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
-        Class<?> testClass = testInstance.getClass();
-        port = resolvePort(testClass);
+        ClassMetadata metadata = context.getRoot().getStore(NAMESPACE)
+            .computeIfAbsent(testInstance.getClass(), ClassMetadata::resolve, ClassMetadata.class);
+        SpringBeans beans = null;
 
         try {
-            SpringExtension.getApplicationContext(context);
+            beans = getSpringBeans(context, SpringExtension.getApplicationContext(context));
         } catch (NoClassDefFoundError e) {
-            this.usesSpring = false;
+            // Spring is not in use
         }
+
+        context.getStore(NAMESPACE).put(STATE_KEY, new State(metadata, beans));
     }
 
     @Override
     public void beforeEach(ExtensionContext context) {
-        if (isOptedOutTestMethod(context.getRequiredTestMethod())) return;
+        State state = getState(context);
+        MethodMetadata methodMetadata = state.metadata().method(context.getRequiredTestMethod());
+        if (methodMetadata.optedOut()) return;
 
-        var mockWebServer = getMockWebServerSupportInstance(context).orElse(null);
+        var mockWebServer = getMockWebServerSupportInstance(context, state).orElse(null);
         if (mockWebServer == null) return;
 
-        mockWebServer.start(port);
-        enqueueViaAnnotations(mockWebServer, context);
+        startMockWebServer(mockWebServer, context, state.metadata());
+        enqueueViaAnnotations(mockWebServer, context, methodMetadata);
     }
 
     @Override
     public void afterEach(ExtensionContext context) {
-        if (isOptedOutTestMethod(context.getRequiredTestMethod())) return;
+        State state = getState(context);
+        if (state.metadata().method(context.getRequiredTestMethod()).optedOut()) return;
 
-        var mockWebServer = getMockWebServerSupportInstance(context).orElse(null);
+        var mockWebServer = getMockWebServerSupportInstance(context, state).orElse(null);
         if (mockWebServer == null) return;
 
-        mockWebServer.stop();
+        if (lifecycle(mockWebServer, state.metadata()) == Lifecycle.PER_TEST) {
+            mockWebServer.stop();
+        } else {
+            mockWebServer.reset();
+        }
     }
 
     // --
 
-    private int resolvePort(Class<?> testClass) {
-        WithMockWebServer annotation = testClass.getAnnotation(WithMockWebServer.class);
+    private void startMockWebServer(MockWebServerSupport mockWebServer, ExtensionContext context, ClassMetadata metadata) {
+        Lifecycle lifecycle = lifecycle(mockWebServer, metadata);
 
-        if (annotation == null) return 0;
+        if (lifecycle == Lifecycle.PER_TEST) {
+            mockWebServer.start(metadata.port());
+            return;
+        }
 
-        return annotation.value();
+        if (mockWebServer.isStarted()) return;
+
+        mockWebServer.start(metadata.port());
+
+        // stopped when the store is closed, i.e. once the class or the run is done
+        ExtensionContext scope = lifecycle == Lifecycle.PER_RUN ? context.getRoot() : getClassContext(context);
+        scope.getStore(NAMESPACE).put(new RunningServer(mockWebServer), (AutoCloseable) mockWebServer::stop);
     }
 
-    private Optional<MockWebServerSupport> getMockWebServerSupportInstance(ExtensionContext context) {
-        return usesSpring
-            ? getSpringMockWebServerSupportInstance(context)
-            : getNonSpringMockWebServerSupportInstance(context);
+    private Lifecycle lifecycle(MockWebServerSupport mockWebServer, ClassMetadata metadata) {
+        // pooled servers are kept running by their pool, and are bound to the thread of a single test
+        return mockWebServer instanceof PooledMockWebServerSupport ? Lifecycle.PER_TEST : metadata.lifecycle();
     }
 
-    private Optional<MockWebServerSupport> getSpringMockWebServerSupportInstance(ExtensionContext context) {
-        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+    private ExtensionContext getClassContext(ExtensionContext context) {
+        ExtensionContext current = context;
+
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+
+        return current;
+    }
 
-        List<MockWebServerSupport> beans = applicationContext.getBeansOfType(MockWebServerSupport.class).values()
-            .stream()
-            .toList();
+    private State getState(ExtensionContext context) {
+        State state = context.getStore(NAMESPACE).get(STATE_KEY, State.class);
 
-        if (beans.size() != 1) throw new IllegalStateException("Expected a single MockWebServerSupport bean");
+        if (state == null) {
+            throw new IllegalStateException("No state found for " + context.getRequiredTestClass().getName() + " - was the test instance post-processed?");
+        }
 
-        return Optional.of(beans.getFirst());
+        return state;
+    }
+
+    private SpringBeans getSpringBeans(ExtensionContext context, ApplicationContext applicationContext) {
+        State cached = context.getStore(NAMESPACE).get(STATE_KEY, State.class);
+
+        if (cached != null && cached.beans() != null && cached.beans().applicationContext() == applicationContext) {
+            return cached.beans();
+        }
+
+        return new SpringBeans(applicationContext, List.copyOf(applicationContext.getBeansOfType(MockWebServerSupport.class).values()));
+    }
+
+    private Optional<MockWebServerSupport> getMockWebServerSupportInstance(ExtensionContext context, State state) {
+        return state.beans() != null
+            ? getSpringMockWebServerSupportInstance(state.beans())
+            : getNonSpringMockWebServerSupportInstance(context, state.metadata());
+    }
+
+    private Optional<MockWebServerSupport> getSpringMockWebServerSupportInstance(SpringBeans beans) {
+        if (beans.mockWebServerSupports().size() != 1) throw new IllegalStateException("Expected a single MockWebServerSupport bean");
+
+        return Optional.of(beans.mockWebServerSupports().getFirst());
     }
 
     @SneakyThrows
-    private Optional<MockWebServerSupport> getNonSpringMockWebServerSupportInstance(ExtensionContext context) {
+    private Optional<MockWebServerSupport> getNonSpringMockWebServerSupportInstance(ExtensionContext context, ClassMetadata metadata) {
         Object testInstance = context.getTestInstance().orElse(null);
         if (testInstance == null) return Optional.empty();
 
-        Field field = getMockWebServerSupportField(testInstance);
-        field.setAccessible(true);
-        MockWebServerSupport instance = (MockWebServerSupport) field.get(testInstance);
-        field.setAccessible(false);
+        if (metadata.supportFields().size() != 1) throw new IllegalStateException("Expected a single MockWebServerSupport field");
 
-        return Optional.of(instance);
+        return Optional.of((MockWebServerSupport) metadata.supportFields().getFirst().get(testInstance));
     }
 
-    private Field getMockWebServerSupportField(Object testInstance) {
-        List<Field> fields = Arrays.stream(testInstance.getClass().getDeclaredFields())
-            .filter(field -> field.getType().isAssignableFrom(MockWebServerSupport.class))
-            .toList();
+    private void enqueueViaAnnotations(MockWebServerSupport mockWebServer, ExtensionContext context, MethodMetadata methodMetadata) {
+        if (methodMetadata.responses().isEmpty()) return;
 
-        if (fields.size() != 1) throw new IllegalStateException("Expected a single MockWebServerSupport field");
+        String testCase = TestingUtilsExtension.resolveTestCase(context);
 
-        return fields.getFirst();
+        methodMetadata.responses().forEach(response -> {
+            if (response.streaming()) {
+                mockWebServer.enqueueResourceStreaming(testCase, response.artifactType(), response.artifactName(mockWebServer), response.status(), response.headers());
+            } else {
+                mockWebServer.enqueueResource(testCase, response.artifactType(), response.artifactName(mockWebServer), response.status(), response.headers());
+            }
+        });
     }
 
-    private void enqueueViaAnnotations(MockWebServerSupport mockWebServer, ExtensionContext context) {
-        String testCase = TestingUtilsExtension.resolveTestCase(context);
-        EnqueueResponse[] annotations = context.getRequiredTestMethod().getAnnotationsByType(EnqueueResponse.class);
+    /**
+     * <p>
+     *     Reflection results of a test class, resolved once and kept in the root {@link ExtensionContext.Store}. Test
+     *     methods are resolved on first use.
+     * </p>
+     */
+    private record ClassMetadata(int port, Lifecycle lifecycle, List<Field> supportFields, Map<Method, MethodMetadata> methods) {
+
+        static ClassMetadata resolve(Class<?> testClass) {
+            List<Field> supportFields = Arrays.stream(testClass.getDeclaredFields())
+                .filter(field -> field.getType().isAssignableFrom(MockWebServerSupport.class))
+                .toList();
+
+            supportFields.forEach(field -> field.setAccessible(true));
 
-        if (annotations.length == 0) return;
+            WithMockWebServer annotation = testClass.getAnnotation(WithMockWebServer.class);
+            Lifecycle lifecycle = annotation == null ? Lifecycle.PER_TEST : annotation.lifecycle();
 
-        Arrays.stream(annotations).forEach(annotation -> {
+            return new ClassMetadata(resolvePort(annotation), lifecycle, supportFields, new ConcurrentHashMap<>());
+        }
+
+        MethodMetadata method(Method testMethod) {
+            return methods.computeIfAbsent(testMethod, MethodMetadata::resolve);
+        }
+
+        private static int resolvePort(WithMockWebServer annotation) {
+            if (annotation == null) return 0;
+
+            return annotation.value();
+        }
+    }
+
+    /**
+     * <p>The {@link MockWebServerlessTest} and {@link EnqueueResponse} annotations of a test method.</p>
+     */
+    private record MethodMetadata(boolean optedOut, List<ResponseDescriptor> responses) {
+
+        static MethodMetadata resolve(Method testMethod) {
+            return new MethodMetadata(
+                testMethod.isAnnotationPresent(MockWebServerlessTest.class),
+                Arrays.stream(testMethod.getAnnotationsByType(EnqueueResponse.class))
+                    .map(ResponseDescriptor::resolve)
+                    .toList()
+            );
+        }
+    }
+
+    /**
+     * <p>A validated {@link EnqueueResponse} annotation.</p>
+     */
+    private record ResponseDescriptor(Class<?> value, String artifactName, String artifactType, int status, Headers headers, boolean streaming) {
+
+        static ResponseDescriptor resolve(EnqueueResponse annotation) {
             if (annotation.value().equals(Void.class) && annotation.artifactName().isBlank()) {
                 throw new IllegalStateException("@EnqueueResponse annotation must specify either the 'value' or the 'artifactName' parameter (when both are defined, 'artifactName' is ignored)");
             }
 
-            String artifactName = !annotation.value().equals(Void.class)
-                ? mockWebServer.artifactFileName(annotation.value())
-                : annotation.artifactName();
-
             Headers headers = Headers.EMPTY;
 
             if (!annotation.contentType().isBlank()) {
@@ -168,17 +267,44 @@ public class TestingUtilsMockWebServerExtension implements TestInstancePostProce
                     .build();
             }
 
-            mockWebServer.enqueueResource(
-                testCase,
-                annotation.artifactType(),
-                artifactName,
-                annotation.status(),
-                headers
-            );
-        });
+            return new ResponseDescriptor(annotation.value(), annotation.artifactName(), annotation.artifactType(), annotation.status(), headers, annotation.streaming());
+        }
+
+        String artifactName(MockWebServerSupport mockWebServer) {
+            return !value.equals(Void.class)
+                ? mockWebServer.artifactFileName(value)
+                : artifactName;
+        }
+    }
+
+    /**
+     * <p>Store key of a server kept running beyond a single test, by the identity of its {@link MockWebServerSupport}.</p>
+     */
+    private record RunningServer(MockWebServerSupport mockWebServer) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof RunningServer other && mockWebServer == other.mockWebServer;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(mockWebServer);
+        }
+    }
+
+    /**
+     * <p>The {@link MockWebServerSupport} beans of the application context of a test class, resolved once per context.</p>
+     */
+    private record SpringBeans(ApplicationContext applicationContext, List<MockWebServerSupport> mockWebServerSupports) {
     }
 
-    private boolean isOptedOutTestMethod(Method testMethod) {
-        return testMethod.isAnnotationPresent(MockWebServerlessTest.class);
+    /**
+     * <p>
+     *     State of a test class, kept in the {@link ExtensionContext.Store} so the extension holds no state. The beans
+     *     are {@code null} if Spring is not in use.
+     * </p>
+     */
+    private record State(ClassMetadata metadata, SpringBeans beans) {
     }
 }
@@ -0,0 +1,63 @@
+package com.purepigeon.test.utils.mockwebserver.impl;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.ArtifactSource;
+import mockwebserver3.MockResponseBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ *     A {@link MockResponseBody} streamed from an artifact each time the response is written, so that the artifact is
+ *     never held in memory as a whole - only a few buffer segments are, however large it is.
+ * </p>
+ * @param artifactSource the source to read the artifact from
+ * @param key the artifact
+ * @param contentLength the size of the artifact, in bytes
+ */
+record ArtifactResponseBody(ArtifactSource artifactSource, ArtifactKey key, long contentLength) implements MockResponseBody {
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        long written;
+
+        try (Source content = Okio.source(artifactSource.open(key))) {
+            written = sink.writeAll(content);
+        }
+
+        if (written != contentLength) {
+            throw new IOException("Artifact " + key.path() + " changed size since it was enqueued: expected " + contentLength + " bytes, read " + written);
+        }
+
+        // the server only emits complete or shared segments on its own, which the tail of the artifact is not
+        sink.flush();
+    }
+}
@@ -0,0 +1,49 @@
+package com.purepigeon.test.utils.mockwebserver.impl;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import mockwebserver3.MockResponseBody;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ *     A {@link MockResponseBody} backed by an immutable {@link ByteString}, so that a single instance can be shared by
+ *     any number of responses, and is written without being copied or encoded again.
+ * </p>
+ * @param bytes the encoded body
+ */
+record ByteStringResponseBody(ByteString bytes) implements MockResponseBody {
+
+    @Override
+    public long getContentLength() {
+        return bytes.size();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        sink.write(bytes);
+        // the server only emits complete or shared segments on its own, which a partial, copied tail is not
+        sink.flush();
+    }
+}
@@ -22,7 +22,16 @@ package com.purepigeon.test.utils.mockwebserver.impl;
 
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.BoundedCache;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import com.purepigeon.test.utils.listener.TestingUtilsListener;
+import com.purepigeon.test.utils.listener.TestingUtilsListeners;
 import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
+import com.purepigeon.test.utils.mockwebserver.jfr.EnqueueResourceEvent;
+import com.purepigeon.test.utils.mockwebserver.jfr.TakeRequestEvent;
+import com.purepigeon.test.utils.mockwebserver.routing.RequestPattern;
+import com.purepigeon.test.utils.mockwebserver.routing.RoutingDispatcher;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -30,24 +39,119 @@ import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
 import mockwebserver3.RecordedRequest;
 import okhttp3.Headers;
+import okio.ByteString;
 
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 /**
  * <p> Default implementation of {@link MockWebServerSupport} that integrates with {@link TestingUtils}. </p>
+ * <p>
+ *     The bodies of enqueued artifacts can optionally be cached once encoded, so that enqueueing the same artifact
+ *     repeatedly does not read it again - see {@link #setResponseBodyCaching(boolean)}.
+ * </p>
  * @see MockWebServerSupport#createDefault(TestingUtils)
  */
 @RequiredArgsConstructor
 public class MockWebServerSupportImpl implements MockWebServerSupport {
 
+    /**
+     * <p> The default {@link #setResponseBodyCacheSize(long) maximum size} of cached response bodies, 16 MB. </p>
+     */
+    public static final long DEFAULT_RESPONSE_BODY_CACHE_SIZE = 16L * 1024 * 1024;
+
     @NonNull
     private final TestingUtils testingUtils;
 
-    private MockWebServer mockWebServer = new MockWebServer();
+    private final TestingUtilsListeners listeners = TestingUtilsListeners.fromServices();
+
+    private volatile BoundedCache<ArtifactKey, ByteStringResponseBody> responseBodies = newResponseBodyCache(DEFAULT_RESPONSE_BODY_CACHE_SIZE);
+
+    private volatile boolean responseBodyCaching;
+
+    private MockWebServer mockWebServer = newMockWebServer();
+
+    /**
+     * <p>
+     *     Register a listener to be notified of enqueued resources and taken requests. Listeners registered for
+     *     {@link java.util.ServiceLoader} are registered on creation.
+     * </p>
+     * <p>
+     *     Reads of the enqueued resources are reported by the listeners of the {@link TestingUtils} instance instead.
+     * </p>
+     * @param listener the listener to add
+     */
+    public void addListener(TestingUtilsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * <p> Deregister a listener, if registered. </p>
+     * @param listener the listener to remove
+     */
+    public void removeListener(TestingUtilsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * <p> Retrieve the listeners registered on this instance. </p>
+     * @return an immutable snapshot of the listeners, in registration order
+     */
+    public List<TestingUtilsListener> getListeners() {
+        return listeners.get();
+    }
+
+    /**
+     * <p>
+     *     Enable or disable caching of response bodies, which is disabled by default. While enabled, the encoded body
+     *     of each artifact enqueued by {@link #enqueueResource} is kept, and shared by every response enqueued from
+     *     the same artifact afterward, without reading or encoding it again. The least recently used bodies are evicted
+     *     once the cache exceeds its maximum size - see {@link #setResponseBodyCacheSize(long)}.
+     * </p>
+     * <p>
+     *     Only enable caching if artifacts do not change while the instance is in use. Disabling it clears the cache.
+     * </p>
+     * @param responseBodyCaching whether to cache response bodies
+     */
+    public void setResponseBodyCaching(boolean responseBodyCaching) {
+        this.responseBodyCaching = responseBodyCaching;
+
+        if (!responseBodyCaching) {
+            responseBodies.invalidateAll();
+        }
+    }
+
+    /**
+     * <p> Check whether response bodies are cached - see {@link #setResponseBodyCaching(boolean)}. </p>
+     * @return {@code true} if response bodies are cached
+     */
+    public boolean isResponseBodyCaching() {
+        return responseBodyCaching;
+    }
+
+    /**
+     * <p>
+     *     Set the maximum total size of cached response bodies, in bytes - by default,
+     *     {@value #DEFAULT_RESPONSE_BODY_CACHE_SIZE}. Bodies larger than the maximum are never cached. Setting it
+     *     clears the cache.
+     * </p>
+     * @param maxBytes the maximum total size, must not be negative
+     */
+    public void setResponseBodyCacheSize(long maxBytes) {
+        responseBodies = newResponseBodyCache(maxBytes);
+    }
+
+    /**
+     * <p> Discard all cached response bodies, so that artifacts are read again when enqueued next. </p>
+     */
+    public void clearResponseBodyCache() {
+        responseBodies.invalidateAll();
+    }
 
     @Override
     @SneakyThrows
@@ -64,7 +168,20 @@ public class MockWebServerSupportImpl implements MockWebServerSupport {
     @Override
     public void stop() {
         mockWebServer.close();
-        mockWebServer = new MockWebServer();
+        mockWebServer = newMockWebServer();
+    }
+
+    @Override
+    @SneakyThrows
+    public void reset() {
+        var dispatcher = mockWebServer.getDispatcher();
+        mockWebServer.setDispatcher(new RoutingDispatcher());
+        // releases requests still waiting for an enqueued response
+        dispatcher.close();
+
+        while (mockWebServer.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // drain requests recorded by the previous user of the server
+        }
     }
 
     @Override
@@ -74,19 +191,114 @@ public class MockWebServerSupportImpl implements MockWebServerSupport {
 
     @Override
     public void enqueueResource(String testCase, String artifactType, String artifactName, int status, Headers headers) {
-        var resource = testingUtils.readString(testCase, artifactType, artifactName);
+        respondWithResource(testCase, artifactType, artifactName, status, headers, mockWebServer::enqueue);
+    }
+
+    /**
+     * <p>
+     *     Routes are served by the {@link RoutingDispatcher} of the mock web server, and are discarded when it is
+     *     {@link #stop() stopped}.
+     * </p>
+     */
+    @Override
+    public void routeResource(RequestPattern pattern, String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        if (!(mockWebServer.getDispatcher() instanceof RoutingDispatcher dispatcher)) {
+            throw new IllegalStateException("The dispatcher of the mock web server was replaced, routes are not supported");
+        }
+
+        respondWithResource(testCase, artifactType, artifactName, status, headers, response -> dispatcher.route(pattern, response));
+    }
+
+    private void respondWithResource(String testCase, String artifactType, String artifactName, int status, Headers headers, Consumer<MockResponse> respond) {
+        var event = new EnqueueResourceEvent();
+        event.begin();
+        long start = listeners.start();
+
+        var key = new ArtifactKey(testingUtils.getSuite(), testCase, artifactType, artifactName);
+        var caching = responseBodyCaching;
+        var body = caching ? responseBodies.getCached(key) : null;
+        var cached = body != null;
+
+        if (!cached) {
+            body = caching ? responseBodies.get(key, this::readResponseBody) : readResponseBody(key);
+        }
+
+        respond.accept(new MockResponse.Builder()
+            .code(status)
+            .headers(headers)
+            .body(body)
+            .build()
+        );
+
+        event.commit(testingUtils, testCase, artifactType, artifactName, status, body.getContentLength(), cached);
+        listeners.fireEnqueue(testingUtils, testCase, artifactType, artifactName, status, body.getContentLength(), start);
+    }
+
+    private ByteStringResponseBody readResponseBody(ArtifactKey key) {
+        return new ByteStringResponseBody(ByteString.encodeUtf8(testingUtils.readString(key.testCase(), key.artifactType(), key.artifactName())));
+    }
+
+    private static BoundedCache<ArtifactKey, ByteStringResponseBody> newResponseBodyCache(long maxBytes) {
+        return new BoundedCache<>(maxBytes, body -> body.bytes().size());
+    }
+
+    /**
+     * <p>
+     *     Streams the body from the {@link AbstractTestingUtils#getArtifactSource() artifact source} of the
+     *     {@link TestingUtils} instance, with its size as the Content-Length. Falls back to
+     *     {@link #enqueueResource(String, String, String, int, Headers)} if the instance is not an
+     *     {@link AbstractTestingUtils}, or its source cannot tell the size of the artifact without reading it.
+     * </p>
+     */
+    @Override
+    @SneakyThrows
+    public void enqueueResourceStreaming(String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        if (!(testingUtils instanceof AbstractTestingUtils abstractTestingUtils)) {
+            enqueueResource(testCase, artifactType, artifactName, status, headers);
+            return;
+        }
+
+        var event = new EnqueueResourceEvent();
+        event.begin();
+        long start = listeners.start();
+
+        var artifactSource = abstractTestingUtils.getArtifactSource();
+        var key = new ArtifactKey(testingUtils.getSuite(), testCase, artifactType, artifactName);
+        var size = artifactSource.size(key);
+
+        if (size < 0) {
+            enqueueResource(testCase, artifactType, artifactName, status, headers);
+            return;
+        }
 
         mockWebServer.enqueue(new MockResponse.Builder()
             .code(status)
             .headers(headers)
-            .body(resource)
+            .body(new ArtifactResponseBody(artifactSource, key, size))
             .build()
         );
+
+        event.commit(testingUtils, testCase, artifactType, artifactName, status, size, false);
+        listeners.fireEnqueue(testingUtils, testCase, artifactType, artifactName, status, size, start);
     }
 
     @Override
     public RecordedRequest takeRequest(long timeoutMs) {
-        return assertDoesNotThrow(() -> mockWebServer.takeRequest(timeoutMs, TimeUnit.MILLISECONDS));
+        var event = new TakeRequestEvent();
+        event.begin();
+        long start = listeners.start();
+
+        var recordedRequest = assertDoesNotThrow(() -> mockWebServer.takeRequest(timeoutMs, TimeUnit.MILLISECONDS));
+
+        event.commit(recordedRequest, timeoutMs);
+
+        if (recordedRequest != null) {
+            listeners.fireTakeRequest(recordedRequest.getMethod(), recordedRequest.getTarget(), recordedRequest.getBodySize(), start);
+        } else {
+            listeners.fireTakeRequest(null, null, -1, start);
+        }
+
+        return recordedRequest;
     }
 
     @Override
@@ -126,6 +338,12 @@ public class MockWebServerSupportImpl implements MockWebServerSupport {
 
     // --
 
+    private static MockWebServer newMockWebServer() {
+        var server = new MockWebServer();
+        server.setDispatcher(new RoutingDispatcher());
+        return server;
+    }
+
     private String getRequestBody(RecordedRequest recordedRequest) {
         assertNotNull(recordedRequest.getBody());
         return recordedRequest.getBody().string(Charset.defaultCharset());
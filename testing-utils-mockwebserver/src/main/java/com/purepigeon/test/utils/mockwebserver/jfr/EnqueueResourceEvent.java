@@ -0,0 +1,99 @@
+package com.purepigeon.test.utils.mockwebserver.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.jfr.TestingUtilsEvents;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ *     JFR event for enqueueing an artifact as a mock response, i.e.
+ *     {@link com.purepigeon.test.utils.mockwebserver.MockWebServerSupport#enqueueResource}. Unless the body of the
+ *     response was cached, the event encloses the {@link com.purepigeon.test.utils.jfr.ArtifactReadEvent} of the
+ *     artifact.
+ * </p>
+ */
+@Name(EnqueueResourceEvent.NAME)
+@Label("Enqueue Resource")
+@Category({TestingUtilsEvents.CATEGORY, "Mock Web Server"})
+@Description("Enqueueing a test artifact as a mock response")
+@StackTrace(false)
+public final class EnqueueResourceEvent extends Event {
+
+    /**
+     * <p>The name of the event type.</p>
+     */
+    public static final String NAME = "com.purepigeon.test.utils.mockwebserver.EnqueueResource";
+
+    @Label("Suite")
+    String suite;
+
+    @Label("Test Case")
+    String testCase;
+
+    @Label("Artifact Type")
+    String artifactType;
+
+    @Label("Artifact Name")
+    String artifactName;
+
+    @Label("Status")
+    int status;
+
+    @Label("Body Size")
+    @DataAmount
+    long size;
+
+    @Label("Cached")
+    boolean cached;
+
+    /**
+     * <p>End the event and commit it, if enabled.</p>
+     * @param testingUtils the testing utils the artifact was read with
+     * @param testCase the test case of the artifact
+     * @param artifactType the type of the artifact
+     * @param artifactName the name of the artifact
+     * @param status the status of the response
+     * @param size the size of the response body, in bytes
+     * @param cached whether the body of the response was cached
+     */
+    public void commit(TestingUtils testingUtils, String testCase, String artifactType, String artifactName, int status, long size, boolean cached) {
+        end();
+
+        if (shouldCommit()) {
+            this.suite = testingUtils.getSuite();
+            this.testCase = testCase;
+            this.artifactType = artifactType;
+            this.artifactName = artifactName;
+            this.status = status;
+            this.size = size;
+            this.cached = cached;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.purepigeon.test.utils.mockwebserver.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.jfr.TestingUtilsEvents;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import mockwebserver3.RecordedRequest;
+
+/**
+ * <p>
+ *     JFR event for waiting for a request received by the mock web server, i.e.
+ *     {@link com.purepigeon.test.utils.mockwebserver.MockWebServerSupport#takeRequest}. The duration of the event is
+ *     the time spent waiting.
+ * </p>
+ */
+@Name(TakeRequestEvent.NAME)
+@Label("Take Request")
+@Category({TestingUtilsEvents.CATEGORY, "Mock Web Server"})
+@Description("Waiting for a request received by the mock web server")
+@StackTrace(false)
+public final class TakeRequestEvent extends Event {
+
+    /**
+     * <p>The name of the event type.</p>
+     */
+    public static final String NAME = "com.purepigeon.test.utils.mockwebserver.TakeRequest";
+
+    @Label("Suite")
+    String suite;
+
+    @Label("Test Case")
+    String testCase;
+
+    @Label("Method")
+    String method;
+
+    @Label("Target")
+    String target;
+
+    @Label("Body Size")
+    @DataAmount
+    long size;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    long timeout;
+
+    @Label("Received")
+    boolean received;
+
+    /**
+     * <p>End the event and commit it, if enabled.</p>
+     * @param request the request taken, or {@code null} if none was received in time
+     * @param timeoutMs the timeout of the wait, in milliseconds
+     */
+    public void commit(RecordedRequest request, long timeoutMs) {
+        end();
+
+        if (shouldCommit()) {
+            TestContextHolder.current().ifPresent(context -> {
+                this.suite = context.suite();
+                this.testCase = context.testCase();
+            });
+
+            if (request != null) {
+                this.method = request.getMethod();
+                this.target = request.getTarget();
+                this.size = request.getBodySize();
+            }
+
+            this.timeout = timeoutMs;
+            this.received = request != null;
+            commit();
+        }
+    }
+}
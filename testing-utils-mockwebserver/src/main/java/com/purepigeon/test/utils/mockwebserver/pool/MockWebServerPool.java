@@ -0,0 +1,118 @@
+package com.purepigeon.test.utils.mockwebserver.pool;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     A pool of started mock web servers. A server is {@link #checkOut() checked out} for exclusive use, and
+ *     {@link #checkIn(MockWebServerSupport) checked in} again once done with, which {@link MockWebServerSupport#reset()
+ *     resets} it for the next user rather than stopping it.
+ * </p>
+ * <p>
+ *     The pool grows on demand: it holds as many servers as were ever checked out at the same time. Servers are only
+ *     stopped when the pool is {@link #close() closed}.
+ * </p>
+ * @see PooledMockWebServerSupport
+ */
+@RequiredArgsConstructor
+public final class MockWebServerPool implements AutoCloseable {
+
+    @NonNull
+    private final Supplier<MockWebServerSupport> factory;
+
+    private final Deque<MockWebServerSupport> idle = new ConcurrentLinkedDeque<>();
+
+    private final Set<MockWebServerSupport> servers = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    /**
+     * <p> Check out a started server, creating one if none is idle. </p>
+     * @return the server, for exclusive use until checked in
+     * @throws IllegalStateException if the pool is closed
+     */
+    public MockWebServerSupport checkOut() {
+        if (closed) throw new IllegalStateException("The mock web server pool is closed");
+
+        MockWebServerSupport server = idle.pollFirst();
+        if (server != null) return server;
+
+        server = factory.get();
+        server.start();
+        servers.add(server);
+
+        return server;
+    }
+
+    /**
+     * <p> Reset a checked out server and return it to the pool. </p>
+     * @param server the server, as returned by {@link #checkOut()}
+     * @throws IllegalArgumentException if the server does not belong to this pool
+     */
+    public void checkIn(@NonNull MockWebServerSupport server) {
+        if (!servers.contains(server)) throw new IllegalArgumentException("The mock web server does not belong to this pool");
+
+        if (closed) {
+            server.stop();
+            return;
+        }
+
+        server.reset();
+        idle.addFirst(server);
+    }
+
+    /**
+     * <p> Get the number of servers in the pool, whether checked out or idle. </p>
+     * @return the number of servers
+     */
+    public int size() {
+        return servers.size();
+    }
+
+    /**
+     * <p> Get the number of idle servers in the pool. </p>
+     * @return the number of servers not checked out
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * <p> Stop all servers of the pool. Servers checked out at this time are stopped as well. </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        servers.forEach(MockWebServerSupport::stop);
+        idle.clear();
+    }
+}
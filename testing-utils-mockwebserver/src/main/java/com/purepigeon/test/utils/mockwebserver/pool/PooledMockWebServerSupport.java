@@ -0,0 +1,230 @@
+package com.purepigeon.test.utils.mockwebserver.pool;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
+import com.purepigeon.test.utils.mockwebserver.routing.RequestPattern;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Headers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     A {@link MockWebServerSupport} that hands each thread a server of its own, checked out from a
+ *     {@link MockWebServerPool}. This lets tests sharing a single instance - such as the bean of a cached Spring
+ *     context - run in parallel.
+ * </p>
+ * <p>
+ *     {@link #start()} checks out a started server for the calling thread, and {@link #stop()} checks it back in, resetting
+ *     it for the next test. All other methods act on the server of the calling test, so the base URL of the server is
+ *     resolved per test, e.g. via {@link #url(String)} or {@link #port()} - clients created once, such as Spring beans,
+ *     should resolve it per request, e.g. via the {@code mockWebServerUrl} bean. Requests are still served on any thread.
+ * </p>
+ * <p>
+ *     The server of a test is also resolved on other threads, if they have bound the {@link TestContext} of the test -
+ *     e.g. for tasks wrapped via {@link TestContextHolder#wrap(Runnable)}. This requires the context to be bound when the
+ *     server is checked out, which {@link com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer} takes
+ *     care of, and is ambiguous for tests of the same suite and test case running at the same time.
+ * </p>
+ * <p>
+ *     Pooled servers always listen on random ports, and are checked out per test, regardless of
+ *     {@link com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer#lifecycle()}.
+ * </p>
+ * <p>
+ *     With Spring, setting the {@value #ENABLED_PROPERTY} property to {@code true} makes this the
+ *     {@link MockWebServerSupport} bean of the application context.
+ * </p>
+ * @see MockWebServerSupport#createPooled(com.purepigeon.test.utils.TestingUtils)
+ */
+@RequiredArgsConstructor
+public class PooledMockWebServerSupport implements MockWebServerSupport, AutoCloseable {
+
+    /**
+     * <p> The property enabling the pooled mode of the {@link MockWebServerSupport} bean. </p>
+     */
+    public static final String ENABLED_PROPERTY = "testing-utils.mockwebserver.pooled";
+
+    /**
+     * <p> The pool that servers are checked out from. </p>
+     */
+    @Getter
+    @NonNull
+    private final MockWebServerPool pool;
+
+    private final ThreadLocal<Checkout> current = new ThreadLocal<>();
+
+    private final Map<TestContext, List<MockWebServerSupport>> byTest = new HashMap<>();
+
+    /**
+     * <p> Create an instance with a new pool, creating servers with the given factory. </p>
+     * @param factory the factory of the servers
+     */
+    public PooledMockWebServerSupport(Supplier<MockWebServerSupport> factory) {
+        this(new MockWebServerPool(factory));
+    }
+
+    @Override
+    public void start() {
+        start(0);
+    }
+
+    @Override
+    public void start(int port) {
+        if (port != 0) throw new IllegalArgumentException("Pooled mock web servers listen on random ports, but port " + port + " was requested");
+        if (current.get() != null) throw new IllegalStateException("A mock web server is already checked out by thread " + Thread.currentThread().getName());
+
+        MockWebServerSupport server = pool.checkOut();
+        TestContext test = TestContextHolder.current().map(context -> context.withClock(null)).orElse(null);
+
+        if (test != null) {
+            synchronized (byTest) {
+                byTest.computeIfAbsent(test, key -> new ArrayList<>(1)).add(server);
+            }
+        }
+
+        current.set(new Checkout(server, test));
+    }
+
+    @Override
+    public void stop() {
+        Checkout checkout = current.get();
+        if (checkout == null) return;
+
+        current.remove();
+
+        if (checkout.test() != null) {
+            synchronized (byTest) {
+                List<MockWebServerSupport> servers = byTest.get(checkout.test());
+                servers.remove(checkout.server());
+                if (servers.isEmpty()) byTest.remove(checkout.test());
+            }
+        }
+
+        pool.checkIn(checkout.server());
+    }
+
+    @Override
+    public boolean isStarted() {
+        return current.get() != null;
+    }
+
+    @Override
+    public void reset() {
+        current().reset();
+    }
+
+    @Override
+    public int port() {
+        return current().port();
+    }
+
+    @Override
+    public void enqueueResource(String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        current().enqueueResource(testCase, artifactType, artifactName, status, headers);
+    }
+
+    @Override
+    public void enqueueResourceStreaming(String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        current().enqueueResourceStreaming(testCase, artifactType, artifactName, status, headers);
+    }
+
+    @Override
+    public void routeResource(RequestPattern pattern, String testCase, String artifactType, String artifactName, int status, Headers headers) {
+        current().routeResource(pattern, testCase, artifactType, artifactName, status, headers);
+    }
+
+    @Override
+    public RecordedRequest takeRequest(long timeoutMs) {
+        return current().takeRequest(timeoutMs);
+    }
+
+    @Override
+    public MockWebServer unwrap() {
+        return current().unwrap();
+    }
+
+    @Override
+    public <T> RecordedRequest assertRequest(String testCase, Class<T> clazz) {
+        return current().assertRequest(testCase, clazz);
+    }
+
+    @Override
+    public <T> RecordedRequest assertRequest(String testCase, TypeRef<T> typeRef) {
+        return current().assertRequest(testCase, typeRef);
+    }
+
+    @Override
+    public <T> String artifactFileName(Class<T> clazz) {
+        return current().artifactFileName(clazz);
+    }
+
+    @Override
+    public <T> String artifactFileName(TypeRef<T> typeRef) {
+        return current().artifactFileName(typeRef);
+    }
+
+    /**
+     * <p> Stop all servers of the pool. </p>
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    // --
+
+    private MockWebServerSupport current() {
+        Checkout checkout = current.get();
+        if (checkout != null) return checkout.server();
+
+        TestContext test = TestContextHolder.current().map(context -> context.withClock(null)).orElse(null);
+        List<MockWebServerSupport> servers;
+
+        synchronized (byTest) {
+            servers = test != null ? List.copyOf(byTest.getOrDefault(test, List.of())) : List.of();
+        }
+
+        if (servers.size() > 1) {
+            throw new IllegalStateException("Several tests of " + test.suite() + " / " + test.testCase() + " have a mock web server checked out - resolve it on the test thread instead");
+        }
+
+        if (servers.isEmpty()) {
+            throw new IllegalStateException("No mock web server is checked out by thread " + Thread.currentThread().getName() + " or its test - was it started?");
+        }
+
+        return servers.getFirst();
+    }
+
+    private record Checkout(MockWebServerSupport server, TestContext test) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.purepigeon.test.utils.mockwebserver.routing;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.NonNull;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * <p> Describes the requests a route of a {@link RoutingDispatcher} responds to. </p>
+ * <p>
+ *     A request matches if its method equals the method of the pattern - ignoring case, or any method if the pattern's
+ *     method is {@link #ANY_METHOD} - and its encoded path matches the path of the pattern. In paths, {@code *} matches
+ *     any part of a single segment, and {@code **} matches any number of segments, e.g. {@code /users/*} matches
+ *     {@code /users/1}, and {@code /files/**} matches {@code /files/a/b.json}. A pattern can further require query
+ *     parameters and headers to have given values.
+ * </p>
+ * <p> Instances are immutable: the {@code with} methods return a new pattern. </p>
+ */
+public final class RequestPattern {
+
+    /**
+     * <p> The method of patterns that match requests of any method. </p>
+     */
+    public static final String ANY_METHOD = "*";
+
+    private final String method;
+
+    private final String path;
+
+    private final Pattern pathRegex;
+
+    private final Map<String, String> queryParameters;
+
+    private final Map<String, String> headers;
+
+    private RequestPattern(String method, String path, Map<String, String> queryParameters, Map<String, String> headers) {
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("Path patterns must start with '/': " + path);
+        }
+
+        this.method = method;
+        this.path = path;
+        this.pathRegex = compile(path);
+        this.queryParameters = queryParameters;
+        this.headers = headers;
+    }
+
+    /**
+     * <p> Create a pattern matching requests of the given method and path. </p>
+     * @param method the method, or {@link #ANY_METHOD}
+     * @param path the path pattern, starting with {@code /}
+     * @return the new pattern
+     */
+    public static RequestPattern of(@NonNull String method, @NonNull String path) {
+        return new RequestPattern(method, path, Map.of(), Map.of());
+    }
+
+    /**
+     * <p> Create a pattern matching {@code GET} requests of the given path. </p>
+     * @param path the path pattern, starting with {@code /}
+     * @return the new pattern
+     */
+    public static RequestPattern get(String path) {
+        return of("GET", path);
+    }
+
+    /**
+     * <p> Create a pattern matching {@code POST} requests of the given path. </p>
+     * @param path the path pattern, starting with {@code /}
+     * @return the new pattern
+     */
+    public static RequestPattern post(String path) {
+        return of("POST", path);
+    }
+
+    /**
+     * <p> Create a copy of this pattern that also requires the given query parameter to have the given value. </p>
+     * @param name the name of the query parameter
+     * @param value the required value
+     * @return the new pattern
+     */
+    public RequestPattern withQueryParameter(@NonNull String name, @NonNull String value) {
+        return new RequestPattern(method, path, with(queryParameters, name, value), headers);
+    }
+
+    /**
+     * <p> Create a copy of this pattern that also requires the given header to have the given value. </p>
+     * @param name the name of the header, which is case-insensitive
+     * @param value the required value
+     * @return the new pattern
+     */
+    public RequestPattern withHeader(@NonNull String name, @NonNull String value) {
+        return new RequestPattern(method, path, queryParameters, with(headers, name, value));
+    }
+
+    /**
+     * <p> Check whether the given request matches this pattern. </p>
+     * @param request the request
+     * @return {@code true} if the request matches
+     */
+    public boolean matches(RecordedRequest request) {
+        String requestMethod = request.getMethod();
+        HttpUrl url = request.getUrl();
+
+        if (requestMethod == null || !method.equals(ANY_METHOD) && !method.equalsIgnoreCase(requestMethod)) return false;
+        if (!pathRegex.matcher(url.encodedPath()).matches()) return false;
+
+        for (Map.Entry<String, String> parameter : queryParameters.entrySet()) {
+            if (!parameter.getValue().equals(url.queryParameter(parameter.getKey()))) return false;
+        }
+
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!header.getValue().equals(request.getHeaders().get(header.getKey()))) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Return the conventional artifact filename of the responses to this pattern: the method and the path
+     *     segments, joined by underscores, e.g. {@code GET_users_1.json} for {@code GET /users/1}.
+     * </p>
+     * @return the artifact filename
+     * @throws IllegalStateException if the method or path of this pattern contains wildcards
+     */
+    public String artifactFileName() {
+        if (method.equals(ANY_METHOD) || path.contains("*")) {
+            throw new IllegalStateException("Artifact filenames can only be derived from patterns without wildcards, use an explicit artifact name for " + this);
+        }
+
+        String segments = path.substring(1).replace('/', '_');
+        return method.toUpperCase() + (segments.isEmpty() ? "" : "_" + segments) + ".json";
+    }
+
+    /**
+     * <p> The method of this pattern. </p>
+     * @return the method, or {@link #ANY_METHOD}
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * <p> The path of this pattern. </p>
+     * @return the path pattern
+     */
+    public String path() {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RequestPattern other
+            && method.equals(other.method)
+            && path.equals(other.path)
+            && queryParameters.equals(other.queryParameters)
+            && headers.equals(other.headers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, path, queryParameters, headers);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path
+            + (queryParameters.isEmpty() ? "" : " " + queryParameters)
+            + (headers.isEmpty() ? "" : " headers " + headers);
+    }
+
+    // --
+
+    private static Pattern compile(String path) {
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) != '*') continue;
+
+            regex.append(Pattern.quote(path.substring(literalStart, i)));
+
+            if (i + 1 < path.length() && path.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else {
+                regex.append("[^/]*");
+            }
+
+            literalStart = i + 1;
+        }
+
+        regex.append(Pattern.quote(path.substring(literalStart)));
+        return Pattern.compile(regex.toString());
+    }
+
+    private static Map<String, String> with(Map<String, String> values, String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(values);
+        copy.put(name, value);
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,93 @@
+package com.purepigeon.test.utils.mockwebserver.routing;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.NonNull;
+import mockwebserver3.MockResponse;
+import mockwebserver3.QueueDispatcher;
+import mockwebserver3.RecordedRequest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>
+ *     A {@link QueueDispatcher} that serves requests matching a {@link RequestPattern route} with the response of the
+ *     route, rather than the next enqueued one.
+ * </p>
+ * <p>
+ *     Routes are not used up: a route serves every matching request, whichever order they arrive in, and any number
+ *     of them at the same time - which makes routes fit for clients that issue requests concurrently. If a request
+ *     matches multiple routes, the first one added serves it.
+ * </p>
+ * <p>
+ *     Requests that match no route are served from the queue, so {@link mockwebserver3.MockWebServer#enqueue} works as
+ *     usual. If the queue is empty while routes are present, such requests are answered with {@code 404}, rather than
+ *     waiting for a response to be enqueued.
+ * </p>
+ */
+public class RoutingDispatcher extends QueueDispatcher {
+
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+
+    /**
+     * <p> Add a route, serving the given response to all requests matching the given pattern. </p>
+     * @param pattern the requests to serve
+     * @param response the response to serve them with, which must be reusable
+     */
+    public void route(@NonNull RequestPattern pattern, @NonNull MockResponse response) {
+        routes.add(new Route(pattern, response));
+    }
+
+    /**
+     * <p> Retrieve the patterns of the routes, in the order they were added. </p>
+     * @return the patterns
+     */
+    public List<RequestPattern> getRoutes() {
+        return routes.stream().map(Route::pattern).toList();
+    }
+
+    /**
+     * <p> Remove all routes. </p>
+     */
+    public void clearRoutes() {
+        routes.clear();
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        for (Route route : routes) {
+            if (route.pattern().matches(request)) return route.response();
+        }
+
+        if (!routes.isEmpty() && getResponseQueue().isEmpty()) {
+            return new MockResponse.Builder()
+                .code(404)
+                .body("No route matches " + request.getRequestLine())
+                .build();
+        }
+
+        return super.dispatch(request);
+    }
+
+    private record Route(RequestPattern pattern, MockResponse response) {
+    }
+}
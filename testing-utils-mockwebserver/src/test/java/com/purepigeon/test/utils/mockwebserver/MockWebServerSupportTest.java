@@ -25,12 +25,22 @@ import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
 import com.purepigeon.test.utils.annotation.TestCase;
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import com.purepigeon.test.utils.listener.TestingUtilsListener;
 import com.purepigeon.test.utils.mockwebserver.annotation.EnqueueResponse;
 import com.purepigeon.test.utils.mockwebserver.annotation.MockWebServerlessTest;
 import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
+import com.purepigeon.test.utils.mockwebserver.impl.MockWebServerSupportImpl;
+import com.purepigeon.test.utils.mockwebserver.jfr.EnqueueResourceEvent;
+import com.purepigeon.test.utils.mockwebserver.jfr.TakeRequestEvent;
+import com.purepigeon.test.utils.mockwebserver.routing.RequestPattern;
 import com.purepigeon.test.utils.mockwebserver.test.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import okhttp3.Headers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
@@ -39,7 +49,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -120,6 +139,14 @@ class MockWebServerSupportTest {
         performGet(testCase, TestResponse.class);
     }
 
+    @Test
+    @TestCase("plain")
+    @EnqueueResponse(value = TestResponse.class, streaming = true)
+    void enqueueInputResource_viaAnnotation_streaming(String testCase) {
+        // expect
+        performGet(testCase, TestResponse.class);
+    }
+
     @Test
     @TestCase("generic")
     void enqueueInputResource_typeRef(String testCase) {
@@ -319,6 +346,301 @@ class MockWebServerSupportTest {
         assertNotNull(recordedRequest);
     }
 
+    @Test
+    @TestCase("plain")
+    void events(String testCase, @TempDir Path tempDir) throws IOException {
+        // given
+        var request = testingUtils.readInputObject(testCase, TestRequest.class);
+        var file = tempDir.resolve("recording.jfr");
+
+        // when
+        try (var recording = new Recording()) {
+            recording.enable(EnqueueResourceEvent.NAME);
+            recording.enable(TakeRequestEvent.NAME);
+            recording.start();
+
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+            performPost(testCase, TestResponse.class, request);
+            mockWebServerSupport.takeRequest();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        var events = RecordingFile.readAllEvents(file);
+        var enqueue = events.stream().filter(event -> event.getEventType().getName().equals(EnqueueResourceEvent.NAME)).findFirst().orElseThrow();
+        var take = events.stream().filter(event -> event.getEventType().getName().equals(TakeRequestEvent.NAME)).findFirst().orElseThrow();
+
+        assertEquals("MockWebServerSupportTest", enqueue.getString("suite"));
+        assertEquals(testCase, enqueue.getString("testCase"));
+        assertEquals("TestResponse.json", enqueue.getString("artifactName"));
+        assertTrue(enqueue.getLong("size") > 0);
+        assertEquals(HttpStatus.OK.value(), enqueue.getInt("status"));
+        assertEquals("POST", take.getString("method"));
+        assertEquals(testCase, take.getString("testCase"));
+        assertTrue(take.getBoolean("received"));
+        assertTrue(take.getLong("size") > 0);
+    }
+
+    @Test
+    @TestCase("plain")
+    void enqueueResource_cached(String testCase) {
+        // given
+        var support = (MockWebServerSupportImpl) mockWebServerSupport;
+        var utils = (AbstractTestingUtils) testingUtils;
+        var reads = new ArrayList<ArtifactKey>();
+        TestingUtilsListener listener = new TestingUtilsListener() {
+            @Override
+            public void onRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long nanos) {
+                reads.add(artifact);
+            }
+        };
+        support.clearResponseBodyCache();
+
+        // when
+        support.setResponseBodyCaching(true);
+        utils.addListener(listener);
+
+        try {
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+        } finally {
+            utils.removeListener(listener);
+            support.setResponseBodyCaching(false);
+        }
+
+        // then
+        assertEquals(1, reads.size());
+        performGet(testCase, TestResponse.class);
+        performGet(testCase, TestResponse.class);
+    }
+
+    @Test
+    @TestCase("plain")
+    void enqueueResourceStreaming(String testCase) {
+        // given
+        var size = testingUtils.readExpectedString(testCase, TEST_RESPONSE_JSON).getBytes(StandardCharsets.UTF_8).length;
+        var headers = Headers.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+
+        // when
+        mockWebServerSupport.enqueueResourceStreaming(testCase, DefaultArtifactType.EXPECTED, TEST_RESPONSE_JSON, HttpStatus.OK.value(), headers);
+        mockWebServerSupport.enqueueResourceStreaming(testCase, DefaultArtifactType.EXPECTED, TEST_RESPONSE_JSON, HttpStatus.OK.value(), headers);
+
+        // then
+        for (int i = 0; i < 2; i++) {
+            performGet(testCase, TestResponse.class, HttpStatus.OK, responseHeaders -> {
+                assertEquals(MediaType.APPLICATION_JSON, responseHeaders.getContentType());
+                assertEquals(size, responseHeaders.getContentLength());
+            });
+        }
+    }
+
+    @Test
+    @TestCase("plain")
+    void enqueueResource_notCached(String testCase) {
+        // given
+        var support = (MockWebServerSupportImpl) mockWebServerSupport;
+        var utils = (AbstractTestingUtils) testingUtils;
+        var reads = new ArrayList<ArtifactKey>();
+        TestingUtilsListener listener = new TestingUtilsListener() {
+            @Override
+            public void onRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long nanos) {
+                reads.add(artifact);
+            }
+        };
+
+        // when
+        utils.addListener(listener);
+
+        try {
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+        } finally {
+            utils.removeListener(listener);
+        }
+
+        // then
+        assertFalse(support.isResponseBodyCaching());
+        assertEquals(2, reads.size());
+        performGet(testCase, TestResponse.class);
+        performGet(testCase, TestResponse.class);
+    }
+
+    @Test
+    @TestCase("plain")
+    void enqueueResource_largerThanCacheNotCached(String testCase) {
+        // given
+        var support = (MockWebServerSupportImpl) mockWebServerSupport;
+        var utils = (AbstractTestingUtils) testingUtils;
+        var reads = new ArrayList<ArtifactKey>();
+        TestingUtilsListener listener = new TestingUtilsListener() {
+            @Override
+            public void onRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long nanos) {
+                reads.add(artifact);
+            }
+        };
+
+        // when
+        support.setResponseBodyCaching(true);
+        support.setResponseBodyCacheSize(1);
+        utils.addListener(listener);
+
+        try {
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+        } finally {
+            utils.removeListener(listener);
+            support.setResponseBodyCaching(false);
+            support.setResponseBodyCacheSize(MockWebServerSupportImpl.DEFAULT_RESPONSE_BODY_CACHE_SIZE);
+        }
+
+        // then
+        assertEquals(2, reads.size());
+        performGet(testCase, TestResponse.class);
+        performGet(testCase, TestResponse.class);
+    }
+
+    @Test
+    @TestCase("plain")
+    void routeResource_concurrent(String testCase) throws Exception {
+        // given
+        var expectedJson = testingUtils.readInputObject(testCase, TestResponse.class);
+        var expectedString = testingUtils.readInputString(testCase, TEST_STRING_RESOURCE);
+        mockWebServerSupport.routeInputResource(testCase, RequestPattern.get("/items/json"), TEST_RESPONSE_JSON);
+        mockWebServerSupport.routeResource(RequestPattern.get("/items/*"), testCase, DefaultArtifactType.INPUT, TEST_STRING_RESOURCE, HttpStatus.OK.value(), Headers.of(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE));
+
+        // when
+        List<Future<Object>> responses = new ArrayList<>();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                var json = i % 2 == 0;
+                responses.add(executor.submit(() -> json ? get("/items/json", TestResponse.class) : get("/items/other", String.class)));
+            }
+        }
+
+        // then
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(i % 2 == 0 ? expectedJson : expectedString, responses.get(i).get());
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            assertNotNull(mockWebServerSupport.takeRequest());
+        }
+    }
+
+    @Test
+    @TestCase("plain")
+    void routeResource_byConvention(String testCase) {
+        // given
+        mockWebServerSupport.routeInputResource(testCase, RequestPattern.get("/items/routed"));
+
+        // when
+        var response = get("/items/routed", TestResponse.class);
+
+        // then
+        assertEquals(testingUtils.readInputObject(testCase, "GET_items_routed.json", TestResponse.class), response);
+    }
+
+    @Test
+    @TestCase("plain")
+    void routeResource_fallsBackToQueue(String testCase) {
+        // given
+        mockWebServerSupport.routeInputResource(testCase, RequestPattern.get("/items/json"), TEST_RESPONSE_JSON);
+        mockWebServerSupport.enqueueInputResource(testCase, TEST_STRING_RESOURCE);
+
+        // when
+        var queued = get("/other", String.class);
+        var notFound = restClient.get().uri(URI + "/other", mockWebServerSupport.port()).exchange((request, response) -> response.getStatusCode());
+
+        // then
+        assertEquals(testingUtils.readInputString(testCase, TEST_STRING_RESOURCE), queued);
+        assertEquals(HttpStatus.NOT_FOUND, notFound);
+    }
+
+    @Test
+    @TestCase("plain")
+    void reset(String testCase) throws InterruptedException {
+        // given
+        int port = mockWebServerSupport.port();
+        mockWebServerSupport.routeInputResource(testCase, RequestPattern.get("/items/json"), TEST_RESPONSE_JSON);
+        mockWebServerSupport.enqueueInputResource(testCase, TEST_RESPONSE_JSON);
+        get("/items/json", String.class);
+
+        // when
+        mockWebServerSupport.reset();
+        mockWebServerSupport.enqueueInputResource(testCase, TEST_STRING_RESOURCE);
+        var response = get("/items/json", String.class);
+
+        // then
+        assertTrue(mockWebServerSupport.isStarted());
+        assertEquals(port, mockWebServerSupport.port());
+        assertEquals(testingUtils.readInputString(testCase, TEST_STRING_RESOURCE), response);
+        assertEquals("/items/json", mockWebServerSupport.unwrap().takeRequest(1, TimeUnit.SECONDS).getTarget());
+        assertNull(mockWebServerSupport.unwrap().takeRequest(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @TestCase("plain")
+    void reset_restartsByDefault(String testCase) {
+        // given
+        var delegate = MockWebServerSupport.createDefault(testingUtils);
+        var support = (MockWebServerSupport) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { MockWebServerSupport.class },
+            (proxy, method, args) -> method.getName().equals("reset") ? InvocationHandler.invokeDefault(proxy, method, args) : method.invoke(delegate, args));
+        support.start();
+        int port = support.port();
+        support.enqueueInputResource(testCase, TEST_RESPONSE_JSON);
+
+        try {
+            // when
+            support.reset();
+            support.enqueueInputResource(testCase, TEST_STRING_RESOURCE);
+            var response = RestClient.create().get().uri(support.url("/items/json").uri()).retrieve().body(String.class);
+
+            // then
+            assertTrue(support.isStarted());
+            assertEquals(port, support.port());
+            assertEquals(testingUtils.readInputString(testCase, TEST_STRING_RESOURCE), response);
+        } finally {
+            support.stop();
+        }
+    }
+
+    @Test
+    @TestCase("plain")
+    void listeners(String testCase) {
+        // given
+        var request = testingUtils.readInputObject(testCase, TestRequest.class);
+        var support = (MockWebServerSupportImpl) mockWebServerSupport;
+        var calls = new ArrayList<String>();
+        var listener = new TestingUtilsListener() {
+            @Override
+            public void onEnqueue(TestingUtils source, ArtifactKey artifact, int status, long length, long nanos) {
+                calls.add("enqueue " + artifact.artifactType() + " " + artifact.artifactName() + " " + status + " " + (length > 0));
+            }
+
+            @Override
+            public void onTakeRequest(String method, String target, long bodySize, long nanos) {
+                calls.add("take " + method + " " + (bodySize > 0));
+            }
+        };
+
+        // when
+        support.addListener(listener);
+
+        try {
+            mockWebServerSupport.enqueueExpectedResource(testCase, TestResponse.class);
+            performPost(testCase, TestResponse.class, request);
+            mockWebServerSupport.takeRequest();
+        } finally {
+            support.removeListener(listener);
+        }
+
+        // then
+        assertEquals(List.of("enqueue " + DefaultArtifactType.EXPECTED + " TestResponse.json 200 true", "take POST true"), calls);
+    }
+
     @Test
     void artifactFileName_class() {
         var clazz = TestResponse.class;
@@ -359,6 +681,13 @@ class MockWebServerSupportTest {
 
     // --
 
+    private <T> T get(String path, Class<T> responseClass) {
+        return restClient.get()
+            .uri(URI + path, mockWebServerSupport.port())
+            .retrieve()
+            .body(responseClass);
+    }
+
     private <T> void performGet(String testCase, Class<T> clazz) {
         performGet(
             testCase,
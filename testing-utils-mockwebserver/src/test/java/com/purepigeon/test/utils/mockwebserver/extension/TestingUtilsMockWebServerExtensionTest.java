@@ -25,18 +25,28 @@ import com.purepigeon.test.utils.annotation.WithTestingUtils;
 import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
 import com.purepigeon.test.utils.mockwebserver.annotation.EnqueueResponse;
 import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
+import com.purepigeon.test.utils.mockwebserver.routing.RoutingDispatcher;
 import com.purepigeon.test.utils.mockwebserver.test.TestApp;
+import mockwebserver3.MockResponse;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
-import static org.junit.jupiter.api.Assertions.fail;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
@@ -102,6 +112,59 @@ class TestingUtilsMockWebServerExtensionTest {
         }
     }
 
+    @Nested
+    class PerClassLifecycle {
+
+        @Test
+        void testServerIsReusedAcrossTests() {
+            ReusingTest.ports.clear();
+
+            EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+                .selectors(selectClass(ReusingTest.class))
+                .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.succeeded(2));
+
+            assertEquals(2, ReusingTest.ports.size());
+            assertEquals(ReusingTest.ports.getFirst(), ReusingTest.ports.getLast());
+            assertFalse(ReusingTest.server.isStarted());
+        }
+
+        @Nested
+        @Disabled("Excluded from automatic global test run")
+        @WithTestingUtils
+        @WithMockWebServer(lifecycle = WithMockWebServer.Lifecycle.PER_CLASS)
+        @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+        @SpringBootTest(classes = TestApp.class)
+        class ReusingTest {
+
+            static final List<Integer> ports = new CopyOnWriteArrayList<>();
+
+            static MockWebServerSupport server;
+
+            @Autowired
+            private MockWebServerSupport mockWebServerSupport;
+
+            @Test
+            @Order(1)
+            void first() {
+                server = mockWebServerSupport;
+                ports.add(mockWebServerSupport.port());
+                mockWebServerSupport.unwrap().enqueue(new MockResponse.Builder().body("stale").build());
+            }
+
+            @Test
+            @Order(2)
+            void second() {
+                assertTrue(mockWebServerSupport.isStarted());
+                ports.add(mockWebServerSupport.port());
+                assertTrue(mockWebServerSupport.unwrap().getDispatcher() instanceof RoutingDispatcher dispatcher
+                    && dispatcher.getRoutes().isEmpty());
+            }
+        }
+    }
+
     private void testFailedToStart(Class<?> testClass, String expectedMessage) {
         EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
             .selectors(selectMethod(testClass, "shouldFail"))
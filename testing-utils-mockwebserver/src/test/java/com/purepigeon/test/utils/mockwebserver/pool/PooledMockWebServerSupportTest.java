@@ -0,0 +1,251 @@
+package com.purepigeon.test.utils.mockwebserver.pool;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.impl.simple.SimpleTestingUtils;
+import com.purepigeon.test.utils.mockwebserver.MockWebServerSupport;
+import com.purepigeon.test.utils.mockwebserver.annotation.WithMockWebServer;
+import com.purepigeon.test.utils.mockwebserver.test.TestApp;
+import mockwebserver3.MockResponse;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class PooledMockWebServerSupportTest {
+
+    private final PooledMockWebServerSupport mockWebServerSupport = MockWebServerSupport.createPooled(new SimpleTestingUtils());
+
+    @AfterEach
+    void tearDown() {
+        mockWebServerSupport.close();
+    }
+
+    @Test
+    void start_reusesCheckedInServer() {
+        // given
+        mockWebServerSupport.start();
+        int port = mockWebServerSupport.port();
+        mockWebServerSupport.unwrap().enqueue(new MockResponse.Builder().body("stale").build());
+
+        // when
+        mockWebServerSupport.stop();
+        mockWebServerSupport.start();
+
+        // then
+        assertTrue(mockWebServerSupport.isStarted());
+        assertEquals(port, mockWebServerSupport.port());
+        assertEquals(1, mockWebServerSupport.getPool().size());
+        assertEquals(0, mockWebServerSupport.getPool().idleCount());
+    }
+
+    @Test
+    void start_concurrentThreadsGetOwnServers() throws Exception {
+        // given
+        var barrier = new CyclicBarrier(2);
+        var client = HttpClient.newHttpClient();
+
+        // when
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = IntStream.range(0, 2)
+                .mapToObj(i -> executor.submit(() -> {
+                    mockWebServerSupport.start();
+                    try {
+                        mockWebServerSupport.unwrap().enqueue(new MockResponse.Builder().body("server " + i).build());
+                        barrier.await(10, TimeUnit.SECONDS);
+
+                        var request = HttpRequest.newBuilder(mockWebServerSupport.url("/").uri()).build();
+                        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+                    } finally {
+                        mockWebServerSupport.stop();
+                    }
+                }))
+                .toList();
+
+            // then
+            assertEquals("server 0", futures.get(0).get());
+            assertEquals("server 1", futures.get(1).get());
+        }
+
+        assertEquals(2, mockWebServerSupport.getPool().size());
+        assertEquals(2, mockWebServerSupport.getPool().idleCount());
+    }
+
+    @Test
+    void url_resolvedByTestContext() throws Exception {
+        // given
+        try (var executor = Executors.newSingleThreadExecutor();
+             var ignored = TestContextHolder.bind(new TestContext("PooledMockWebServerSupportTest", "url_resolvedByTestContext"))) {
+            mockWebServerSupport.start();
+            var url = mockWebServerSupport.url("/");
+
+            try {
+                // when
+                var wrapped = executor.submit(TestContextHolder.wrap(() -> mockWebServerSupport.url("/")));
+                var unwrapped = executor.submit(() -> mockWebServerSupport.url("/"));
+
+                // then
+                assertEquals(url, wrapped.get());
+                assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, unwrapped::get).getCause());
+            } finally {
+                mockWebServerSupport.stop();
+            }
+        }
+    }
+
+    @Test
+    void start_fixedPort() {
+        assertThrows(IllegalArgumentException.class, () -> mockWebServerSupport.start(8080));
+    }
+
+    @Test
+    void port_notStarted() {
+        assertFalse(mockWebServerSupport.isStarted());
+        assertThrows(IllegalStateException.class, mockWebServerSupport::port);
+    }
+
+    @Test
+    void close_stopsServers() {
+        // given
+        mockWebServerSupport.start();
+        var url = mockWebServerSupport.url("/").uri();
+
+        // when
+        mockWebServerSupport.close();
+
+        // then
+        assertThrows(IOException.class, () -> HttpClient.newHttpClient().send(HttpRequest.newBuilder(url).build(), HttpResponse.BodyHandlers.ofString()));
+        assertThrows(IllegalStateException.class, mockWebServerSupport::start);
+    }
+
+    @Nested
+    class ParallelSpringTests {
+
+        @Test
+        void testTestsRunInParallel() {
+            ParallelTest.ports.clear();
+
+            EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+                .selectors(selectClass(ParallelTest.class))
+                .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.succeeded(2));
+
+            assertEquals(2, ParallelTest.ports.size());
+            assertInstanceOf(PooledMockWebServerSupport.class, ParallelTest.server);
+        }
+
+        @Nested
+        @Disabled("Excluded from automatic global test run")
+        @WithTestingUtils
+        @WithMockWebServer
+        @Execution(ExecutionMode.CONCURRENT)
+        @SpringBootTest(classes = { TestApp.class, ParallelTest.ClientConfig.class }, properties = PooledMockWebServerSupport.ENABLED_PROPERTY + "=true")
+        class ParallelTest {
+
+            static final Set<Integer> ports = ConcurrentHashMap.newKeySet();
+
+            static final CyclicBarrier barrier = new CyclicBarrier(2);
+
+            static MockWebServerSupport server;
+
+            @Autowired
+            private MockWebServerSupport mockWebServerSupport;
+
+            @Autowired
+            private PingClient pingClient;
+
+            @Test
+            void first() throws Exception {
+                respondWhileOtherTestRuns("first");
+            }
+
+            @Test
+            void second() throws Exception {
+                respondWhileOtherTestRuns("second");
+            }
+
+            private void respondWhileOtherTestRuns(String body) throws Exception {
+                mockWebServerSupport.unwrap().enqueue(new MockResponse.Builder().body(body).build());
+                mockWebServerSupport.unwrap().enqueue(new MockResponse.Builder().body(body).build());
+                server = mockWebServerSupport;
+                ports.add(mockWebServerSupport.port());
+                barrier.await(10, TimeUnit.SECONDS);
+
+                try (var executor = Executors.newSingleThreadExecutor()) {
+                    assertEquals(body, pingClient.ping());
+                    assertEquals(body, CompletableFuture.supplyAsync(pingClient::ping, TestContextHolder.wrap(executor)).get());
+                }
+            }
+
+            record PingClient(Supplier<HttpUrl> baseUrl) {
+
+                String ping() {
+                    return RestClient.create().get().uri(baseUrl.get().resolve("ping").uri()).retrieve().body(String.class);
+                }
+            }
+
+            @TestConfiguration
+            static class ClientConfig {
+
+                @Bean
+                PingClient pingClient(Supplier<HttpUrl> mockWebServerUrl) {
+                    return new PingClient(mockWebServerUrl);
+                }
+            }
+        }
+    }
+}
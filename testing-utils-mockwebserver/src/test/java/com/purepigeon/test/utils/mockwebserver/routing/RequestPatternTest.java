@@ -0,0 +1,104 @@
+package com.purepigeon.test.utils.mockwebserver.routing;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import mockwebserver3.RecordedRequest;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okio.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPatternTest {
+
+    @Test
+    void matches_literal() {
+        var pattern = RequestPattern.get("/users/1");
+
+        assertTrue(pattern.matches(request("GET", "/users/1")));
+        assertTrue(pattern.matches(request("get", "/users/1?page=2")));
+        assertFalse(pattern.matches(request("POST", "/users/1")));
+        assertFalse(pattern.matches(request("GET", "/users/10")));
+        assertFalse(pattern.matches(request("GET", "/users")));
+    }
+
+    @Test
+    void matches_wildcards() {
+        var segment = RequestPattern.of(RequestPattern.ANY_METHOD, "/users/*/orders");
+        var segments = RequestPattern.get("/files/**");
+
+        assertTrue(segment.matches(request("DELETE", "/users/42/orders")));
+        assertFalse(segment.matches(request("GET", "/users/42/x/orders")));
+        assertTrue(segments.matches(request("GET", "/files/a/b.json")));
+        assertFalse(segments.matches(request("GET", "/other/a")));
+    }
+
+    @Test
+    void matches_regexCharactersAreLiteral() {
+        var pattern = RequestPattern.get("/a.b/(c)");
+
+        assertTrue(pattern.matches(request("GET", "/a.b/(c)")));
+        assertFalse(pattern.matches(request("GET", "/axb/(c)")));
+    }
+
+    @Test
+    void matches_queryParametersAndHeaders() {
+        var pattern = RequestPattern.get("/search")
+            .withQueryParameter("q", "pigeon")
+            .withHeader("X-Tenant", "a");
+
+        assertTrue(pattern.matches(request("GET", "/search?q=pigeon&page=1", Headers.of("x-tenant", "a"))));
+        assertFalse(pattern.matches(request("GET", "/search?q=dove", Headers.of("X-Tenant", "a"))));
+        assertFalse(pattern.matches(request("GET", "/search?q=pigeon", Headers.of("X-Tenant", "b"))));
+        assertFalse(pattern.matches(request("GET", "/search?q=pigeon")));
+    }
+
+    @Test
+    void invalidPath() {
+        assertThrows(IllegalArgumentException.class, () -> RequestPattern.get("users"));
+    }
+
+    @Test
+    void artifactFileName() {
+        assertEquals("GET_users_1.json", RequestPattern.of("get", "/users/1").artifactFileName());
+        assertEquals("POST.json", RequestPattern.post("/").artifactFileName());
+        assertThrows(IllegalStateException.class, () -> RequestPattern.get("/users/*").artifactFileName());
+        assertThrows(IllegalStateException.class, () -> RequestPattern.of(RequestPattern.ANY_METHOD, "/users").artifactFileName());
+    }
+
+    @Test
+    void equality() {
+        assertEquals(RequestPattern.get("/a").withHeader("h", "v"), RequestPattern.of("GET", "/a").withHeader("h", "v"));
+        assertNotEquals(RequestPattern.get("/a"), RequestPattern.get("/a").withQueryParameter("q", "v"));
+        assertEquals("GET /a {q=v}", RequestPattern.get("/a").withQueryParameter("q", "v").toString());
+    }
+
+    private static RecordedRequest request(String method, String target) {
+        return request(method, target, Headers.EMPTY);
+    }
+
+    private static RecordedRequest request(String method, String target, Headers headers) {
+        return new RecordedRequest(0, 0, null, List.of(), method, target, "HTTP/1.1", HttpUrl.get("http://localhost" + target), headers, ByteString.EMPTY, 0, List.of(), null);
+    }
+}
@@ -21,6 +21,7 @@ package com.purepigeon.test.utils;
  */
 
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.artifact.SuiteRoots;
 import com.purepigeon.test.utils.impl.AbstractTestingUtils;
 import com.purepigeon.test.utils.impl.gson.GsonTestingUtils;
 import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
@@ -34,8 +35,6 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Objects;
 
 /**
  * <p>
@@ -522,17 +521,20 @@ public interface TestingUtils {
      * <p>
      *     Get a {@link Path} pointing to the given test artifact.
      * </p>
+     * <p>
+     *     The suite root is looked up on the classpath only once per class loader and suite - see {@link SuiteRoots}.
+     * </p>
+     * <p>
+     *     {@link com.purepigeon.test.utils.impl.AbstractTestingUtils} reads artifacts through this method, unless a
+     *     custom {@link com.purepigeon.test.utils.artifact.ArtifactSource} is set.
+     * </p>
      * @param suite The test suite
      * @param testCase The test case
      * @param artifactType The artifact type (defaults in {@link DefaultArtifactType})
      * @param artifactName The artifact name
      * @return A {@link Path} pointing to the artifact resolved from the input parameters
      */
-    @SneakyThrows
     default Path getArtifactPath(String suite, String testCase, String artifactType, String artifactName) {
-        return Paths.get(Objects.requireNonNull(getClass().getClassLoader().getResource(suite)).toURI())
-            .resolve(testCase)
-            .resolve(artifactType)
-            .resolve(artifactName);
+        return SuiteRoots.resolve(getClass().getClassLoader(), suite, testCase, artifactType, artifactName);
     }
 }
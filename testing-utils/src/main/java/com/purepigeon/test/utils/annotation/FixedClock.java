@@ -20,10 +20,14 @@ package com.purepigeon.test.utils.annotation;
  * #L%
  */
 
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import com.purepigeon.test.utils.clock.FixedClockBeanOverrideProcessor;
+import com.purepigeon.test.utils.clock.MutableClock;
+import com.purepigeon.test.utils.clock.VirtualTimeScheduler;
+import org.springframework.test.context.bean.override.BeanOverride;
 
 import java.lang.annotation.*;
 import java.time.Clock;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * <p>
@@ -35,6 +39,21 @@ import java.time.Clock;
  *     level annotation present as well.
  * </p>
  * <p>
+ *     With Spring, the registered bean is a {@link MutableClock}, set to the annotated instant before each test. Without
+ *     Spring, the first {@link Clock} field of the test class is set instead - either a {@link MutableClock}, or a
+ *     Mockito mock, which is stubbed to return the annotated instant.
+ * </p>
+ * <p>
+ *     Tests can control the clock through a {@link MutableClock} parameter, e.g. to {@link MutableClock#advance advance}
+ *     it instead of sleeping. Alternatively, the clock can advance by itself on every read - see {@link #tick()}.
+ * </p>
+ * <p>
+ *     Test methods executing in parallel against one application context each see their own instant: the bean defers to
+ *     a clock bound to the test thread. Work the test hands to other threads sees it as well if wrapped via
+ *     {@link com.purepigeon.test.utils.context.TestContextHolder#wrap(Runnable)}. Any other thread, e.g. of a shared
+ *     executor or server, sees the instant of the most recently started test.
+ * </p>
+ * <p>
  *     Requires usage of {@link WithTestingUtils}.
  * </p>
  */
@@ -42,7 +61,7 @@ import java.time.Clock;
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.TYPE, ElementType.METHOD})
-@MockitoBean(types = Clock.class)
+@BeanOverride(FixedClockBeanOverrideProcessor.class)
 public @interface FixedClock {
     /**
      * <p>
@@ -61,4 +80,30 @@ public @interface FixedClock {
      * @return The fixed instant in string format.
      */
     String value() default DEFAULT_INSTANT;
+
+    /**
+     * <p>
+     *     ISO-8601 durations (e.g. {@code PT1S}) by which the clock advances after every read of its instant, in
+     *     turn - the last one is repeated once the others are used up. See {@link MutableClock#setTick}.
+     * </p>
+     * <p>
+     *     Default is empty, meaning the clock only moves when set or advanced explicitly. Not supported for Mockito
+     *     mock clocks.
+     * </p>
+     * @return The tick steps in string format.
+     */
+    String[] tick() default {};
+
+    /**
+     * <p>
+     *     Whether to also register a {@link VirtualTimeScheduler} bean running on the timeline of the clock, replacing
+     *     any existing {@link ScheduledExecutorService} bean. Its pending tasks are cancelled before each test.
+     * </p>
+     * <p>
+     *     Only applies to the type level annotation. Without Spring, the first {@link ScheduledExecutorService} field
+     *     of the test class holding a {@link VirtualTimeScheduler} is reset before each test instead.
+     * </p>
+     * @return Whether to register a scheduler.
+     */
+    boolean scheduler() default false;
 }
@@ -0,0 +1,53 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>
+ *     Size-bounded, in-memory cache of raw artifact contents, keyed by {@link ArtifactKey}.
+ * </p>
+ * <p>
+ *     Opt-in: set an instance on any {@link AbstractTestingUtils} via
+ *     {@link AbstractTestingUtils#setArtifactCache(ArtifactCache)}, or - when using Spring - register an
+ *     {@link ArtifactCache} bean, which is picked up by all autoconfigured {@link TestingUtils} beans. Afterwards,
+ *     string and object reads of the same artifact are served from memory instead of the file system.
+ * </p>
+ * <p>
+ *     The cache is weighed by content length in bytes and evicts the least recently used artifacts when full. Since
+ *     artifacts are treated as read-only, a cached artifact changed on disk during the run is not picked up until it
+ *     is evicted or {@link #invalidateAll()} is called.
+ * </p>
+ */
+@NullMarked
+public class ArtifactCache extends BoundedCache<ArtifactKey, byte[]> {
+
+    /**
+     * <p>Construct a new artifact cache.</p>
+     * @param maxBytes the maximum total size of cached artifact contents, in bytes
+     */
+    public ArtifactCache(long maxBytes) {
+        super(maxBytes, content -> content.length);
+    }
+}
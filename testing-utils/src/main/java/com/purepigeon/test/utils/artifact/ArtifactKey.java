@@ -0,0 +1,46 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>
+ *     Identifies a single test artifact by the same coordinates {@link TestingUtils} uses to build its path, i.e.
+ *     {@code {suite}/{testCase}/{artifactType}/{artifactName}}.
+ * </p>
+ * @param suite the test suite
+ * @param testCase the test case
+ * @param artifactType the artifact type (defaults in {@link com.purepigeon.test.utils.DefaultArtifactType})
+ * @param artifactName the artifact name
+ */
+@NullMarked
+public record ArtifactKey(String suite, String testCase, String artifactType, String artifactName) {
+
+    /**
+     * <p>The path of the artifact, relative to the root containing its suite.</p>
+     * @return {@code {suite}/{testCase}/{artifactType}/{artifactName}}
+     */
+    public String path() {
+        return suite + '/' + testCase + '/' + artifactType + '/' + artifactName;
+    }
+}
@@ -0,0 +1,91 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     Where {@link AbstractTestingUtils} reads artifact contents from.
+ * </p>
+ * <p>
+ *     By default, artifacts are read from the classpath - see {@link ClasspathArtifactSource}, which handles both
+ *     directories and jars on the classpath. A different source can be set via
+ *     {@link AbstractTestingUtils#setArtifactSource(ArtifactSource)}, or - when using Spring - by registering an
+ *     {@link ArtifactSource} bean, for example a {@link JarArtifactSource} for fixtures published in a separate jar,
+ *     or an {@link InMemoryArtifactSource} for artifacts built by the test itself.
+ * </p>
+ */
+@NullMarked
+public interface ArtifactSource {
+
+    /**
+     * <p>Open the contents of the given artifact for reading. The caller is responsible for closing the stream.</p>
+     * @param key the artifact to open
+     * @return the contents of the artifact
+     * @throws NoSuchFileException if the artifact does not exist in this source
+     * @throws IOException if the artifact cannot be opened
+     */
+    InputStream open(ArtifactKey key) throws IOException;
+
+    /**
+     * <p>Read all contents of the given artifact.</p>
+     * @param key the artifact to read
+     * @return the contents of the artifact
+     * @throws NoSuchFileException if the artifact does not exist in this source
+     * @throws IOException if the artifact cannot be read
+     */
+    default byte[] readAllBytes(ArtifactKey key) throws IOException {
+        try (InputStream content = open(key)) {
+            return content.readAllBytes();
+        }
+    }
+
+    /**
+     * <p>The size of the given artifact in bytes, if this source can tell without reading it.</p>
+     * @param key the artifact
+     * @return the size of the artifact, or {@code -1} if unknown
+     * @throws NoSuchFileException if the artifact does not exist in this source
+     * @throws IOException if the size cannot be determined
+     */
+    default long size(ArtifactKey key) throws IOException {
+        return -1;
+    }
+
+    /**
+     * <p>Map the contents of the given artifact into memory read-only, if this source supports it.</p>
+     * @param key the artifact to map
+     * @return the mapped contents, or empty if this source cannot map the artifact
+     * @throws NoSuchFileException if the artifact does not exist in this source
+     * @throws IOException if the artifact cannot be mapped
+     * @see ReadMode
+     */
+    default Optional<ByteBuffer> map(ArtifactKey key) throws IOException {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,182 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ *     Thread-safe, weight-bounded cache with least-recently-used eviction and hit / miss statistics.
+ * </p>
+ * <p>
+ *     Every entry is weighed once when it is added; whenever the total weight exceeds the maximum, the least recently
+ *     used entries are evicted. Values that weigh more than the maximum on their own are returned to the caller but
+ *     never stored.
+ * </p>
+ * <p>
+ *     Values are loaded outside the lock, so concurrent misses for the same key may load it more than once - the
+ *     first stored value wins.
+ * </p>
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@NullMarked
+public class BoundedCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * <p>Construct a new cache.</p>
+     * @param maxWeight the maximum total weight of all entries, must not be negative
+     * @param weigher function to compute the weight of a single value
+     */
+    public BoundedCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Maximum cache weight cannot be negative");
+        }
+
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * <p>
+     *     Return the value associated with the given key, loading and storing it with {@code loader} on a miss.
+     * </p>
+     * @param key the key to look up
+     * @param loader function to load the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null) {
+                hitCount++;
+                return entry.value();
+            }
+
+            missCount++;
+        }
+
+        V value = loader.apply(key);
+        long valueWeight = weigher.applyAsLong(value);
+
+        if (valueWeight > maxWeight) {
+            return value;
+        }
+
+        synchronized (this) {
+            Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value, valueWeight));
+            if (existing != null) {
+                return existing.value();
+            }
+
+            weight += valueWeight;
+            evict();
+        }
+
+        return value;
+    }
+
+    /**
+     * <p>
+     *     Return the value associated with the given key, without loading it, and record a hit if present. Misses are
+     *     not recorded, so that a subsequent {@link #get(Object, Function)} of the key counts as a single miss.
+     * </p>
+     * @param key the key to look up
+     * @return the cached value, or {@code null} if not present
+     */
+    @Nullable
+    public synchronized V getCached(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        hitCount++;
+        return entry.value();
+    }
+
+    /**
+     * <p>Return the value associated with the given key, without loading it. Does not affect statistics.</p>
+     * @param key the key to look up
+     * @return the cached value, or empty if not present
+     */
+    public synchronized Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(entries.get(key)).map(Entry::value);
+    }
+
+    /**
+     * <p>Remove the entry associated with the given key, if present.</p>
+     * @param key the key to remove
+     */
+    public synchronized void invalidate(K key) {
+        @Nullable Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    /**
+     * <p>Remove all entries. Statistics are kept.</p>
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * <p>Return a snapshot of the current statistics of this cache.</p>
+     * @return the current statistics
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount, entries.size(), weight);
+    }
+
+    // --
+
+    private void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private record Entry<V>(V value, long weight) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>
+ *     Point-in-time snapshot of the statistics of a {@link BoundedCache}.
+ * </p>
+ * @param hitCount the number of lookups that were served from the cache
+ * @param missCount the number of lookups that had to load the value
+ * @param evictionCount the number of entries evicted to stay within the maximum weight
+ * @param size the current number of entries
+ * @param weight the current total weight of all entries
+ */
+@NullMarked
+public record CacheStats(long hitCount, long missCount, long evictionCount, long size, long weight) {
+
+    /**
+     * <p>The ratio of lookups served from the cache, or {@code 0} if there were no lookups yet.</p>
+     * @return the hit rate between {@code 0} and {@code 1}
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
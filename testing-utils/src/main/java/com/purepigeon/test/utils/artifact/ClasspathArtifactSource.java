@@ -0,0 +1,139 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.NonNull;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>
+ *     {@link ArtifactSource} that reads artifacts from the suites found on the classpath of a {@link ClassLoader}.
+ *     This is the default source.
+ * </p>
+ * <p>
+ *     Suites may live in a directory or in a jar on the classpath. Suite roots are memoized via {@link SuiteRoots};
+ *     jars are read in place through a zip file system shared by all sources, rather than being unpacked.
+ * </p>
+ * <p>
+ *     The path of an artifact can be resolved by a custom function instead, e.g. by
+ *     {@link com.purepigeon.test.utils.TestingUtils#getArtifactPath}, so that overrides of it are honored.
+ * </p>
+ */
+@NullMarked
+public class ClasspathArtifactSource implements ArtifactSource {
+
+    private final ClassLoader classLoader;
+
+    private final Function<ArtifactKey, Path> resolver;
+
+    /**
+     * <p>Construct a source resolving artifacts from the suite roots of the given class loader.</p>
+     * @param classLoader the class loader to look suites up with
+     */
+    public ClasspathArtifactSource(@NonNull ClassLoader classLoader) {
+        this(classLoader, key -> SuiteRoots.resolve(classLoader, key.suite(), key.testCase(), key.artifactType(), key.artifactName()));
+    }
+
+    /**
+     * <p>Construct a source resolving the paths of artifacts with the given function.</p>
+     * @param classLoader the class loader whose memoized suite roots are looked up again if an artifact is missing
+     * @param resolver function to resolve the path of an artifact
+     */
+    public ClasspathArtifactSource(@NonNull ClassLoader classLoader, @NonNull Function<ArtifactKey, Path> resolver) {
+        this.classLoader = classLoader;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public InputStream open(ArtifactKey key) throws IOException {
+        return access(key, Files::newInputStream);
+    }
+
+    @Override
+    public byte[] readAllBytes(ArtifactKey key) throws IOException {
+        return access(key, Files::readAllBytes);
+    }
+
+    @Override
+    public long size(ArtifactKey key) throws IOException {
+        return access(key, Files::size);
+    }
+
+    /**
+     * <p>
+     *     Maps artifacts in directories on the classpath. Artifacts in jars, and artifacts larger than 2 GB, cannot be
+     *     mapped.
+     * </p>
+     */
+    @Override
+    public Optional<ByteBuffer> map(ArtifactKey key) throws IOException {
+        return access(key, ClasspathArtifactSource::map);
+    }
+
+    // --
+
+    private <R> R access(ArtifactKey key, PathAccess<R> access) throws IOException {
+        try {
+            return access.apply(resolve(key));
+        } catch (NoSuchFileException e) {
+            // the memoized suite root may be stale, look it up again before giving up
+            SuiteRoots.invalidate(classLoader, key.suite());
+            return access.apply(resolve(key));
+        }
+    }
+
+    private Path resolve(ArtifactKey key) {
+        return resolver.apply(key);
+    }
+
+    private static Optional<ByteBuffer> map(Path path) throws IOException {
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+
+            return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    @FunctionalInterface
+    private interface PathAccess<R> {
+        R apply(Path path) throws IOException;
+    }
+}
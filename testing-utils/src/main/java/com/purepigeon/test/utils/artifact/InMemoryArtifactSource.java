@@ -0,0 +1,99 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     {@link ArtifactSource} that serves artifacts from memory, for artifacts that are built by the test itself
+ *     rather than shipped as resources.
+ * </p>
+ */
+@NullMarked
+public class InMemoryArtifactSource implements ArtifactSource {
+
+    private final Map<ArtifactKey, byte[]> artifacts = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Add or replace the given artifact.</p>
+     * @param key the artifact
+     * @param content the contents of the artifact, which are copied
+     * @return this source
+     */
+    public InMemoryArtifactSource put(ArtifactKey key, byte[] content) {
+        artifacts.put(key, content.clone());
+        return this;
+    }
+
+    /**
+     * <p>Add or replace the given artifact.</p>
+     * @param key the artifact
+     * @param content the contents of the artifact, encoded as UTF-8
+     * @return this source
+     */
+    public InMemoryArtifactSource put(ArtifactKey key, String content) {
+        artifacts.put(key, content.getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * <p>Remove the given artifact, if present.</p>
+     * @param key the artifact
+     */
+    public void remove(ArtifactKey key) {
+        artifacts.remove(key);
+    }
+
+    @Override
+    public InputStream open(ArtifactKey key) throws NoSuchFileException {
+        return new ByteArrayInputStream(get(key));
+    }
+
+    @Override
+    public byte[] readAllBytes(ArtifactKey key) throws NoSuchFileException {
+        return get(key).clone();
+    }
+
+    @Override
+    public long size(ArtifactKey key) throws NoSuchFileException {
+        return get(key).length;
+    }
+
+    // --
+
+    private byte[] get(ArtifactKey key) throws NoSuchFileException {
+        byte[] content = artifacts.get(key);
+
+        if (content == null) {
+            throw new NoSuchFileException(key.path());
+        }
+
+        return content;
+    }
+}
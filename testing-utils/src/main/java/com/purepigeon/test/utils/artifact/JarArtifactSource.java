@@ -0,0 +1,85 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.NonNull;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ *     {@link ArtifactSource} that reads artifacts directly out of a jar (or any zip archive), without unpacking it.
+ * </p>
+ * <p>
+ *     Suites are expected under the given root directory of the archive. The archive is opened lazily on first read,
+ *     as a zip file system that is shared with all other sources reading the same archive and kept open for the rest
+ *     of the run.
+ * </p>
+ */
+@NullMarked
+public class JarArtifactSource implements ArtifactSource {
+
+    private final Path jarFile;
+    private final String root;
+
+    /**
+     * <p>Construct a new source, reading suites from the root of the given archive.</p>
+     * @param jarFile the archive to read artifacts from
+     */
+    public JarArtifactSource(Path jarFile) {
+        this(jarFile, "/");
+    }
+
+    /**
+     * <p>Construct a new source, reading suites from the given directory of the given archive.</p>
+     * @param jarFile the archive to read artifacts from
+     * @param root the directory within the archive containing the suites
+     */
+    public JarArtifactSource(@NonNull Path jarFile, @NonNull String root) {
+        this.jarFile = jarFile;
+        this.root = root;
+    }
+
+    @Override
+    public InputStream open(ArtifactKey key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public byte[] readAllBytes(ArtifactKey key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public long size(ArtifactKey key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    // --
+
+    private Path resolve(ArtifactKey key) {
+        return JarFileSystems.get(jarFile).getPath(root).resolve(key.path());
+    }
+}
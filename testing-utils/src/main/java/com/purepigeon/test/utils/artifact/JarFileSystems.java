@@ -0,0 +1,84 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.jspecify.annotations.NullMarked;
+
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Zip file systems for jars that artifacts are read from, opened once per jar and shared for the rest of the run.
+ * </p>
+ */
+@NullMarked
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JarFileSystems {
+
+    private static final String JAR_SEPARATOR = "!/";
+
+    private static final Map<Path, FileSystem> FILE_SYSTEMS = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Retrieve the file system of the given jar, opening it on first use.</p>
+     * @param jarFile the jar
+     * @return the file system of the jar
+     */
+    static FileSystem get(Path jarFile) {
+        return FILE_SYSTEMS.computeIfAbsent(jarFile.toAbsolutePath().normalize(), JarFileSystems::open);
+    }
+
+    /**
+     * <p>
+     *     Convert the given resource URI to a path, resolving {@code jar:} URIs against the shared file system of
+     *     their jar.
+     * </p>
+     * @param uri the resource URI
+     * @return the path of the resource
+     */
+    static Path toPath(URI uri) {
+        if (!"jar".equals(uri.getScheme())) {
+            return Paths.get(uri);
+        }
+
+        String jar = uri.getRawSchemeSpecificPart();
+        String entry = uri.getSchemeSpecificPart();
+
+        Path jarFile = Paths.get(URI.create(jar.substring(0, jar.indexOf(JAR_SEPARATOR))));
+        return get(jarFile).getPath(entry.substring(entry.indexOf(JAR_SEPARATOR) + 1));
+    }
+
+    // --
+
+    @SneakyThrows
+    private static FileSystem open(Path jarFile) {
+        return FileSystems.newFileSystem(jarFile);
+    }
+}
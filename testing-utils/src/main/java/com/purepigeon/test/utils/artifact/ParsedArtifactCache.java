@@ -0,0 +1,116 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Size-bounded, in-memory cache of parsed artifacts, used by {@link TestingUtils#readObject} implementations
+ *     that support it.
+ * </p>
+ * <p>
+ *     Opt-in: set an instance on any {@link AbstractTestingUtils} via
+ *     {@link AbstractTestingUtils#setParsedArtifactCache(ParsedArtifactCache)}, or - when using Spring - register a
+ *     {@link ParsedArtifactCache} bean, which is picked up by all autoconfigured {@link TestingUtils} beans.
+ * </p>
+ * <p>
+ *     Each artifact is parsed only once into the backend's own tree model (e.g. a Jackson {@code JsonNode} or a Gson
+ *     {@code JsonElement}), and every read maps that tree to a new object. Callers therefore always receive an
+ *     independent copy, and cannot affect each other by modifying the returned objects. The trees themselves are
+ *     never handed out. Artifacts with numbers the tree model cannot hold exactly, such as decimals beyond the
+ *     precision of a {@code double}, are mapped from their contents instead.
+ * </p>
+ * <p>
+ *     The cache is weighed by the size in bytes of the artifacts the trees were parsed from, and evicts the least
+ *     recently used trees when full. Trees usually take a multiple of their source size in memory, which should be
+ *     accounted for when choosing the maximum.
+ * </p>
+ * <p>
+ *     Types whose instances should always be read from the raw artifact can be excluded via
+ *     {@link #exclude(Class[])}.
+ * </p>
+ */
+@NullMarked
+public class ParsedArtifactCache extends BoundedCache<ParsedArtifactCache.Key, ParsedArtifactCache.Tree> {
+
+    private final Set<Class<?>> excludedTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * <p>Construct a new parsed artifact cache.</p>
+     * @param maxSourceBytes the maximum total size of the artifacts whose parsed trees are kept, in bytes
+     */
+    public ParsedArtifactCache(long maxSourceBytes) {
+        super(maxSourceBytes, Tree::sourceSize);
+    }
+
+    /**
+     * <p>Exclude the given types, and their subtypes, from this cache.</p>
+     * @param types the types to exclude
+     * @return this instance
+     */
+    public ParsedArtifactCache exclude(Class<?>... types) {
+        excludedTypes.addAll(Arrays.asList(types));
+        return this;
+    }
+
+    /**
+     * <p>Whether reads of the given type should bypass this cache.</p>
+     * @param type the type to be read
+     * @return {@code true} if the type, or one of its supertypes, has been excluded
+     */
+    public boolean isExcluded(Type type) {
+        Class<?> rawType = rawType(type);
+        return excludedTypes.stream().anyMatch(excludedType -> excludedType.isAssignableFrom(rawType));
+    }
+
+    // --
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) return clazz;
+        if (type instanceof ParameterizedType parameterizedType) return rawType(parameterizedType.getRawType());
+        return Object.class;
+    }
+
+    /**
+     * <p>Key of a parsed artifact. Includes the tree type, so that backends sharing a cache do not collide.</p>
+     * @param artifact the artifact that was parsed
+     * @param treeType the type of tree the artifact was parsed into
+     */
+    public record Key(ArtifactKey artifact, Class<?> treeType) {
+    }
+
+    /**
+     * <p>A parsed artifact, along with the size of the contents it was parsed from, by which it is weighed.</p>
+     * @param value the parsed tree
+     * @param sourceSize the size of the artifact contents, in bytes
+     */
+    public record Tree(Object value, long sourceSize) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+
+/**
+ * <p>
+ *     How {@link AbstractTestingUtils} reads artifact contents. Set a default via
+ *     {@link AbstractTestingUtils#setReadMode(ReadMode)}, or select one for a single read via the overloads accepting
+ *     a {@link ReadMode}.
+ * </p>
+ */
+public enum ReadMode {
+
+    /**
+     * <p>
+     *     Map artifacts of at least {@link AbstractTestingUtils#setMappedReadThreshold(long) the threshold} size,
+     *     copy smaller ones.
+     * </p>
+     */
+    AUTO,
+
+    /**
+     * <p>Copy artifact contents into the heap, or serve them from the {@link ArtifactCache} if one is set.</p>
+     */
+    COPY,
+
+    /**
+     * <p>
+     *     Map artifact contents into memory and parse them from there, bypassing any {@link ArtifactCache}. Falls back
+     *     to {@link #COPY} for artifacts their {@link ArtifactSource} cannot map.
+     * </p>
+     */
+    MAP
+}
@@ -0,0 +1,36 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>
+ *     Point-in-time snapshot of how many artifact bytes an {@link AbstractTestingUtils} has read from its
+ *     {@link ArtifactSource} - see {@link ReadMode}. Reads served from an {@link ArtifactCache} are not counted.
+ * </p>
+ * @param mappedBytes the number of bytes read via memory mapping
+ * @param copiedBytes the number of bytes copied into the heap
+ */
+@NullMarked
+public record ReadStats(long mappedBytes, long copiedBytes) {
+}
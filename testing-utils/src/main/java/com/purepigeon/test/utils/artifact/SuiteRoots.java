@@ -0,0 +1,114 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.jspecify.annotations.NullMarked;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Resolves and memoizes the root directory of test suites, per {@link ClassLoader} and suite.
+ * </p>
+ * <p>
+ *     Looking up a suite via {@link ClassLoader#getResource(String)} scans the classpath, so it is done only once per
+ *     class loader and suite. Afterwards, artifact paths are resolved from the known root with a single
+ *     {@link Path#resolve(String)} call - see {@link TestingUtils#getArtifactPath(String, String, String, String)}.
+ * </p>
+ * <p>
+ *     Suites may live in a directory or in a jar on the classpath; roots in a jar are paths on the jar's zip file
+ *     system, which is opened once and shared for the rest of the run.
+ * </p>
+ * <p>
+ *     Class loaders are held weakly, so roots resolved for a discarded class loader do not leak. A root can be
+ *     dropped explicitly via {@link #invalidate(ClassLoader, String)} / {@link #invalidateAll()}, for example when
+ *     test resources are regenerated during a run; reads that fail because a memoized root disappeared do so
+ *     automatically before retrying.
+ * </p>
+ */
+@NullMarked
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SuiteRoots {
+
+    private static final Map<ClassLoader, Map<String, Path>> ROOTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * <p>Resolve the root directory of the given suite, memoized per class loader and suite.</p>
+     * @param classLoader the class loader to look up the suite with
+     * @param suite the test suite
+     * @return the root directory of the suite
+     * @throws NullPointerException if the suite cannot be found by the class loader
+     */
+    public static Path resolve(ClassLoader classLoader, String suite) {
+        return ROOTS.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(suite, key -> lookup(classLoader, key));
+    }
+
+    /**
+     * <p>Resolve the path of the given artifact, using the memoized root of its suite.</p>
+     * @param classLoader the class loader to look up the suite with
+     * @param suite the test suite
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @return the path of the artifact
+     */
+    public static Path resolve(ClassLoader classLoader, String suite, String testCase, String artifactType, String artifactName) {
+        return resolve(classLoader, suite).resolve(testCase + '/' + artifactType + '/' + artifactName);
+    }
+
+    /**
+     * <p>Drop the memoized root of the given suite, so that it is looked up again on next use.</p>
+     * @param classLoader the class loader the suite was looked up with
+     * @param suite the test suite
+     */
+    public static void invalidate(ClassLoader classLoader, String suite) {
+        Map<String, Path> roots = ROOTS.get(classLoader);
+        if (roots != null) {
+            roots.remove(suite);
+        }
+    }
+
+    /**
+     * <p>Drop all memoized roots.</p>
+     */
+    public static void invalidateAll() {
+        ROOTS.clear();
+    }
+
+    // --
+
+    @SneakyThrows
+    private static Path lookup(ClassLoader classLoader, String suite) {
+        URL url = Objects.requireNonNull(classLoader.getResource(suite), () -> "Suite not found on the classpath: " + suite);
+        return JarFileSystems.toPath(url.toURI());
+    }
+}
@@ -0,0 +1,112 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.test.context.bean.override.BeanOverrideHandler;
+import org.springframework.test.context.bean.override.BeanOverrideProcessor;
+import org.springframework.test.context.bean.override.BeanOverrideStrategy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <p>
+ *     Registers a {@link MutableClock} as the {@link Clock} bean of test classes annotated with {@link FixedClock},
+ *     replacing any existing {@link Clock} bean - and if requested, a {@link VirtualTimeScheduler} running on its
+ *     timeline as the {@link ScheduledExecutorService} bean.
+ * </p>
+ * <p>
+ *     In the {@link SharedFixedClock shared mode}, no {@link Clock} bean is overridden, and the scheduler runs on the
+ *     timeline of the shared clock.
+ * </p>
+ * <p>
+ *     The override does not depend on the value of the annotation - the instant is set before each test by the
+ *     extension - so test classes with different values share the same application context.
+ * </p>
+ */
+@NullMarked
+public class FixedClockBeanOverrideProcessor implements BeanOverrideProcessor {
+
+    @Override
+    public BeanOverrideHandler createHandler(Annotation overrideAnnotation, Class<?> testClass, Field field) {
+        throw new IllegalStateException("@FixedClock is not supported on fields - annotate the test class instead");
+    }
+
+    @Override
+    public List<BeanOverrideHandler> createHandlers(Annotation overrideAnnotation, Class<?> testClass) {
+        if (!(overrideAnnotation instanceof FixedClock fixedClock)) {
+            throw new IllegalStateException("Expected @FixedClock, but found " + overrideAnnotation);
+        }
+
+        if (SharedFixedClock.isEnabled()) {
+            return fixedClock.scheduler() ? List.of(new SchedulerBeanOverrideHandler(SharedFixedClock.get())) : List.of();
+        }
+
+        ClockBeanOverrideHandler clockHandler = new ClockBeanOverrideHandler();
+        return fixedClock.scheduler() ? List.of(clockHandler, new SchedulerBeanOverrideHandler(clockHandler.clock)) : List.of(clockHandler);
+    }
+
+    // --
+
+    /**
+     * <p>
+     *     Creates the clock bean. The instance is shared with the {@link SchedulerBeanOverrideHandler} created along
+     *     with it, but does not take part in equality, so it does not affect context caching.
+     * </p>
+     */
+    private static final class ClockBeanOverrideHandler extends BeanOverrideHandler {
+
+        private final MutableClock clock = MutableClock.testBound(Instant.parse(FixedClock.DEFAULT_INSTANT));
+
+        private ClockBeanOverrideHandler() {
+            super(null, ResolvableType.forClass(Clock.class), null, "", BeanOverrideStrategy.REPLACE_OR_CREATE);
+        }
+
+        @Override
+        protected Object createOverrideInstance(String beanName, @Nullable BeanDefinition existingBeanDefinition, @Nullable Object existingBeanInstance) {
+            return clock;
+        }
+    }
+
+    private static final class SchedulerBeanOverrideHandler extends BeanOverrideHandler {
+
+        private final MutableClock clock;
+
+        private SchedulerBeanOverrideHandler(MutableClock clock) {
+            super(null, ResolvableType.forClass(ScheduledExecutorService.class), null, "", BeanOverrideStrategy.REPLACE_OR_CREATE);
+            this.clock = clock;
+        }
+
+        @Override
+        protected Object createOverrideInstance(String beanName, @Nullable BeanDefinition existingBeanDefinition, @Nullable Object existingBeanInstance) {
+            return new VirtualTimeScheduler(clock);
+        }
+    }
+}
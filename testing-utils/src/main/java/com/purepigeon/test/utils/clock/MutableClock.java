@@ -0,0 +1,306 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     A {@link Clock} whose instant is set explicitly, rather than read from the system. This is the {@link Clock}
+ *     registered by {@link FixedClock}.
+ * </p>
+ * <p>
+ *     Unless it ticks, reading the clock is as cheap as reading a field - plus a thread local lookup for
+ *     {@link #isTestBound() test bound} clocks: {@link #instant()} returns the current {@link Instant} as is, and
+ *     {@link #millis()} does not allocate. Clocks obtained via {@link #withZone(ZoneId)}
+ *     share the time of the clock they were derived from, so setting or advancing either one affects both.
+ * </p>
+ * <p>
+ *     A clock can also follow the system clock until it is set - see {@link #ofSystem()} and {@link #release()}.
+ * </p>
+ * <p>
+ *     Besides being set or advanced manually, the clock can advance itself on every read - see
+ *     {@link #setTick(Duration...)}.
+ * </p>
+ * <p>
+ *     Instances are thread-safe.
+ * </p>
+ */
+@NullMarked
+public final class MutableClock extends Clock {
+
+    private static final Clock SYSTEM = Clock.systemUTC();
+
+    private final Time base;
+
+    private final ZoneId zone;
+
+    private final boolean testBound;
+
+    /**
+     * <p>Create a clock at the given instant, in the {@link ZoneOffset#UTC} zone.</p>
+     * @param instant the initial instant, which {@link #reset()} returns to
+     */
+    public MutableClock(Instant instant) {
+        this(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * <p>Create a clock at the given instant, in the given zone.</p>
+     * @param instant the initial instant, which {@link #reset()} returns to
+     * @param zone the zone of the clock
+     */
+    public MutableClock(Instant instant, ZoneId zone) {
+        this(new Time(Objects.requireNonNull(instant, "instant")), zone, false);
+    }
+
+    /**
+     * <p>
+     *     Create a clock following the system clock, in the {@link ZoneOffset#UTC} zone, until it is set or advanced.
+     *     {@link #reset()} returns it to following the system clock.
+     * </p>
+     * @return the new clock
+     */
+    public static MutableClock ofSystem() {
+        return new MutableClock(new Time(null), ZoneOffset.UTC, false);
+    }
+
+    /**
+     * <p>
+     *     Create a clock that defers to the clock of the {@link TestContext} bound to the reading thread, if any - see
+     *     {@link #isTestBound()}.
+     * </p>
+     * @param initial the initial instant, or {@code null} to follow the system clock
+     * @return the new clock
+     */
+    static MutableClock testBound(@Nullable Instant initial) {
+        return new MutableClock(new Time(initial), ZoneOffset.UTC, true);
+    }
+
+    private MutableClock(Time base, ZoneId zone, boolean testBound) {
+        this.base = base;
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.testBound = testBound;
+    }
+
+    /**
+     * <p>
+     *     Check whether this clock is test bound: while a {@link TestContext} with a {@link TestContext#clock() clock}
+     *     is bound to the current thread, a test bound clock reads and updates that clock instead of its own time. This
+     *     lets test methods executing in parallel see their own instant through a single {@link Clock} bean. Threads
+     *     without a bound context, such as those of pools, read the clock's own time instead - unless tasks are handed
+     *     to them via {@link TestContextHolder#wrap(Runnable)}.
+     * </p>
+     * <p>
+     *     The {@link Clock} beans registered by {@link FixedClock} are test bound.
+     * </p>
+     * @return {@code true} if this clock is test bound
+     */
+    public boolean isTestBound() {
+        return testBound;
+    }
+
+    /**
+     * <p>Set the current instant of this clock.</p>
+     * @param instant the new instant
+     */
+    public void set(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        Time time = time();
+
+        synchronized (time) {
+            time.current = instant;
+        }
+    }
+
+    /**
+     * <p>
+     *     Move the current instant of this clock by the given amount, which may be negative. A clock following the
+     *     system clock is advanced from the current system time, and stops following it.
+     * </p>
+     * @param duration the amount to move by
+     * @return the new instant
+     */
+    public Instant advance(Duration duration) {
+        Objects.requireNonNull(duration, "duration");
+        Time time = time();
+
+        synchronized (time) {
+            Instant advanced = time.current().plus(duration);
+            time.current = advanced;
+            return advanced;
+        }
+    }
+
+    /**
+     * <p>
+     *     Advance this clock automatically after every read of its instant, by the given steps in turn. The last step
+     *     is repeated once the others are used up, so a single step makes the clock tick at a fixed rate.
+     * </p>
+     * <p>
+     *     Calling this method without steps stops the clock from advancing on reads.
+     * </p>
+     * @param steps the amounts to advance by after each read, none of which may be negative
+     */
+    public void setTick(Duration... steps) {
+        for (Duration step : steps) {
+            if (step.isNegative()) {
+                throw new IllegalArgumentException("Tick steps cannot be negative: " + step);
+            }
+        }
+
+        Time time = time();
+
+        synchronized (time) {
+            time.steps = steps.length == 0 ? null : steps.clone();
+            time.step = 0;
+        }
+    }
+
+    /**
+     * <p>Return to the instant this clock was created with, and stop advancing on reads.</p>
+     */
+    public void reset() {
+        Time time = time();
+
+        synchronized (time) {
+            time.current = time.initial;
+            time.steps = null;
+            time.step = 0;
+        }
+    }
+
+    /**
+     * <p>Follow the system clock until set or advanced again, and stop advancing on reads.</p>
+     */
+    public void release() {
+        Time time = time();
+
+        synchronized (time) {
+            time.current = null;
+            time.steps = null;
+            time.step = 0;
+        }
+    }
+
+    /**
+     * <p>Read the current instant without ticking.</p>
+     */
+    Instant current() {
+        return time().current();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public MutableClock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new MutableClock(base, zone, testBound);
+    }
+
+    @Override
+    public Instant instant() {
+        Time time = time();
+        return time.steps == null ? time.current() : time.tick();
+    }
+
+    @Override
+    public long millis() {
+        return instant().toEpochMilli();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return obj instanceof MutableClock other && base == other.base && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(base) ^ zone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        Instant current = base.current;
+        return "MutableClock[" + (current != null ? current : "system") + "," + zone + "]";
+    }
+
+    // --
+
+    private Time time() {
+        if (testBound) {
+            TestContext context = TestContextHolder.get();
+            MutableClock bound = context != null ? context.clock() : null;
+
+            if (bound != null && bound != this) return bound.base;
+        }
+
+        return base;
+    }
+
+    private static final class Time {
+
+        @Nullable
+        private final Instant initial;
+
+        @Nullable
+        private volatile Instant current;
+
+        private volatile Duration @Nullable [] steps;
+
+        private int step;
+
+        private Time(@Nullable Instant initial) {
+            this.initial = initial;
+            this.current = initial;
+        }
+
+        private Instant current() {
+            Instant read = current;
+            return read != null ? read : SYSTEM.instant();
+        }
+
+        private synchronized Instant tick() {
+            Instant read = current();
+            Duration[] currentSteps = steps;
+
+            if (currentSteps != null) {
+                current = read.plus(currentSteps[step]);
+                if (step < currentSteps.length - 1) step++;
+            }
+
+            return read;
+        }
+    }
+}
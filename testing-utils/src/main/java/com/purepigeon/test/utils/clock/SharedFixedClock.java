@@ -0,0 +1,96 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import com.purepigeon.test.utils.config.TestingUtilsAutoConfiguration;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.SpringProperties;
+
+import java.time.Clock;
+
+/**
+ * <p>
+ *     The context-wide clock of the shared {@link FixedClock} mode, enabled by setting the {@value #ENABLED_PROPERTY}
+ *     property to {@code true} - either as a JVM system property, or in a {@code spring.properties} file in the root of
+ *     the classpath.
+ * </p>
+ * <p>
+ *     By default, {@link FixedClock} overrides the {@link Clock} bean per test class, which gives test classes using
+ *     it a different application context than the ones that don't. In the shared mode, {@link FixedClock} does not
+ *     change the application context: instead, {@link TestingUtilsAutoConfiguration} registers the clock returned by
+ *     {@link #get()} as the {@link Clock} bean of every context, replacing any existing one. The clock follows the
+ *     system clock, except during tests annotated with {@link FixedClock}, for which it is set by the extension. When
+ *     such tests run concurrently, it only follows the system clock again once the last of them has finished - see
+ *     {@link #acquire()}.
+ * </p>
+ * <p>
+ *     Note that the zone of the clock is always {@code UTC}, even in tests not annotated with {@link FixedClock}.
+ * </p>
+ */
+@NullMarked
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SharedFixedClock {
+
+    /**
+     * <p>The {@link SpringProperties} flag enabling the shared mode.</p>
+     */
+    public static final String ENABLED_PROPERTY = "testing-utils.fixed-clock.shared";
+
+    private static final MutableClock CLOCK = MutableClock.testBound(null);
+
+    private static int holders;
+
+    /**
+     * <p>Check whether the shared mode is enabled.</p>
+     * @return {@code true} if the shared mode is enabled
+     */
+    public static boolean isEnabled() {
+        return SpringProperties.getFlag(ENABLED_PROPERTY);
+    }
+
+    /**
+     * <p>Retrieve the shared clock, regardless of whether the shared mode is enabled.</p>
+     * @return the shared clock
+     */
+    public static MutableClock get() {
+        return CLOCK;
+    }
+
+    /**
+     * <p>Register a test fixing the shared clock, keeping it from being released until the test has finished.</p>
+     */
+    public static synchronized void acquire() {
+        holders++;
+    }
+
+    /**
+     * <p>
+     *     Unregister a test fixing the shared clock - the clock follows the system clock again once the last
+     *     registered test has been unregistered.
+     * </p>
+     */
+    public static synchronized void release() {
+        if (holders > 0 && --holders == 0) CLOCK.release();
+    }
+}
@@ -0,0 +1,66 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.time.Clock;
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Registers the {@link SharedFixedClock} as the {@link Clock} bean if the shared mode is enabled, replacing the
+ *     definition of an existing {@link Clock} bean under the same name. Does nothing otherwise.
+ * </p>
+ */
+@NullMarked
+public class SharedFixedClockRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+    /**
+     * <p>The name of the registered bean, unless it replaces an existing one.</p>
+     */
+    public static final String BEAN_NAME = "sharedFixedClock";
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+        if (!SharedFixedClock.isEnabled()) return;
+
+        String[] existing = registry instanceof ListableBeanFactory beanFactory
+            ? beanFactory.getBeanNamesForType(Clock.class, true, false)
+            : new String[0];
+
+        if (existing.length > 1) {
+            throw new IllegalStateException("Cannot replace multiple Clock beans with the shared fixed clock: " + Arrays.toString(existing));
+        }
+
+        String beanName = existing.length == 1 ? existing[0] : BEAN_NAME;
+
+        if (registry.containsBeanDefinition(beanName)) {
+            registry.removeBeanDefinition(beanName);
+        }
+
+        registry.registerBeanDefinition(beanName, new RootBeanDefinition(MutableClock.class, SharedFixedClock::get));
+    }
+}
@@ -0,0 +1,334 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     A {@link ScheduledExecutorService} running on the timeline of a {@link MutableClock}, rather than in real time.
+ * </p>
+ * <p>
+ *     Tasks run synchronously, on the thread that makes them due: tasks without a delay run as soon as they are
+ *     submitted, while delayed and periodic tasks run when time is moved past their due instant via
+ *     {@link #advance(Duration)}. Before each task runs, the clock is set to its due instant, so the task observes the
+ *     time it was scheduled for. Tasks due at the same instant run in the order they were scheduled.
+ * </p>
+ * <p>
+ *     Moving the clock directly does not run tasks - call {@link #runDueTasks()} afterwards to do so. As nothing runs
+ *     in the background, waiting on the result of a task that is not yet due blocks indefinitely.
+ * </p>
+ * <p>
+ *     Tasks due beyond the end of the timeline, e.g. scheduled with a delay of {@link Long#MAX_VALUE}, are due at
+ *     {@link Instant#MAX} and never run.
+ * </p>
+ * <p>
+ *     Registered alongside the clock by {@link FixedClock#scheduler()}.
+ * </p>
+ */
+@NullMarked
+public final class VirtualTimeScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final MutableClock clock;
+
+    private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+
+    private long sequence;
+
+    private volatile boolean shutdown;
+
+    /**
+     * <p>Create a scheduler running on the timeline of the given clock.</p>
+     * @param clock the clock, which is moved as tasks run
+     */
+    public VirtualTimeScheduler(MutableClock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * <p>Retrieve the clock of this scheduler.</p>
+     * @return the clock
+     */
+    public MutableClock getClock() {
+        return clock;
+    }
+
+    /**
+     * <p>
+     *     Move the clock forward by the given amount, running every task that becomes due on the way, in order.
+     * </p>
+     * @param duration the amount to move by
+     * @return the new instant of the clock
+     */
+    public Instant advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Cannot advance by a negative duration: " + duration);
+        }
+
+        Instant target = later(clock.current(), duration);
+        runTasks(target);
+
+        if (clock.current().isBefore(target)) {
+            clock.set(target);
+        }
+
+        return clock.current();
+    }
+
+    /**
+     * <p>Run every task that is due at the current instant of the clock, without moving the clock.</p>
+     */
+    public void runDueTasks() {
+        runTasks(clock.current());
+    }
+
+    /**
+     * <p>Retrieve the number of tasks waiting to become due.</p>
+     * @return the number of pending tasks
+     */
+    public synchronized int getPendingTaskCount() {
+        return queue.size();
+    }
+
+    /**
+     * <p>Cancel all pending tasks, and accept new tasks again if this scheduler was shut down.</p>
+     */
+    public void reset() {
+        cancelAll();
+        shutdown = false;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(new ScheduledTask<>(Executors.callable(command), dueIn(delay, unit), null, false));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return schedule(new ScheduledTask<>(callable, dueIn(delay, unit), null, false));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return schedule(new ScheduledTask<>(Executors.callable(command), dueIn(initialDelay, unit), period(period, unit), true));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return schedule(new ScheduledTask<>(Executors.callable(command), dueIn(initialDelay, unit), period(delay, unit), false));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+
+        List<ScheduledTask<?>> periodic;
+
+        synchronized (this) {
+            periodic = queue.stream().filter(ScheduledTask::isPeriodic).toList();
+            queue.removeAll(periodic);
+        }
+
+        periodic.forEach(task -> task.cancel(false));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return cancelAll();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && queue.isEmpty();
+    }
+
+    /**
+     * <p>Return immediately, as no time passes while waiting.</p>
+     * @return whether this scheduler is terminated
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+
+    // --
+
+    private <V> ScheduledTask<V> schedule(ScheduledTask<V> task) {
+        synchronized (this) {
+            if (shutdown) throw new RejectedExecutionException("Scheduler has been shut down");
+
+            task.sequence = sequence++;
+            queue.add(task);
+        }
+
+        runDueTasks();
+        return task;
+    }
+
+    private void runTasks(Instant until) {
+        while (true) {
+            ScheduledTask<?> task;
+
+            synchronized (this) {
+                task = queue.peek();
+                if (task == null || task.due.isAfter(until) || task.due.equals(Instant.MAX)) return;
+                queue.poll();
+            }
+
+            if (task.due.isAfter(clock.current())) {
+                clock.set(task.due);
+            }
+
+            task.run();
+        }
+    }
+
+    private List<Runnable> cancelAll() {
+        List<ScheduledTask<?>> pending;
+
+        synchronized (this) {
+            pending = new ArrayList<>(queue);
+            queue.clear();
+        }
+
+        pending.forEach(task -> task.cancel(false));
+        return new ArrayList<>(pending);
+    }
+
+    private Instant dueIn(long delay, TimeUnit unit) {
+        return later(clock.current(), duration(Math.max(delay, 0), unit));
+    }
+
+    private static Duration period(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+
+        return duration(period, unit);
+    }
+
+    private static Duration duration(long amount, TimeUnit unit) {
+        try {
+            return Duration.of(amount, unit.toChronoUnit());
+        } catch (ArithmeticException e) {
+            return ChronoUnit.FOREVER.getDuration();
+        }
+    }
+
+    private static Instant later(Instant instant, Duration duration) {
+        // instants past the end of the timeline, e.g. for delays of Long.MAX_VALUE, are capped at Instant.MAX
+        return duration.compareTo(Duration.between(instant, Instant.MAX)) < 0 ? instant.plus(duration) : Instant.MAX;
+    }
+
+    private final class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        @Nullable
+        private final Duration period;
+
+        private final boolean fixedRate;
+
+        private volatile Instant due;
+
+        private long sequence;
+
+        private ScheduledTask(Callable<V> callable, Instant due, @Nullable Duration period, boolean fixedRate) {
+            super(callable);
+            this.due = due;
+            this.period = period;
+            this.fixedRate = fixedRate;
+        }
+
+        @Override
+        public void run() {
+            if (period == null) {
+                super.run();
+                return;
+            }
+
+            if (runAndReset() && !shutdown) {
+                due = later(fixedRate ? due : clock.current(), period);
+                schedule(this);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(clock.current(), due));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof VirtualTimeScheduler.ScheduledTask<?> task) {
+                int result = due.compareTo(task.due);
+                return result != 0 ? result : Long.compare(sequence, task.sequence);
+            }
+
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            synchronized (VirtualTimeScheduler.this) {
+                queue.remove(this);
+            }
+
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.compare.JsonTreeModel.Kind;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     Compares JSON trees of any library - see {@link JsonTreeModel} - with the semantics of {@link JSONAssert}'s
+ *     default comparator for a given {@link JSONCompareMode}:
+ * </p>
+ * <ul>
+ *     <li>all expected fields must be present in actual objects, unexpected fields are allowed if the mode is
+ *     extensible</li>
+ *     <li>arrays must have the same length; elements are compared in order if the mode has strict order, or
+ *     matched up in any order otherwise</li>
+ *     <li>numbers are compared by value, but - as with {@link JSONAssert} - integral and non-integral numbers are
+ *     never equal when matching up array elements in any order, and integral numbers are then compared by their
+ *     exact value rather than as doubles</li>
+ * </ul>
+ * <p>
+ *     Comparisons only yield whether the trees match. Callers are expected to fall back to {@link JSONAssert} on a
+ *     mismatch, for the verdict as well as a descriptive failure message.
+ * </p>
+ * @param <N> the node type of the compared trees
+ */
+@NullMarked
+public final class JsonTreeComparator<N> {
+
+    private static final Object NULL = new Object();
+
+    private final JsonTreeModel<N> model;
+    private final JSONCompareMode mode;
+
+    private JsonTreeComparator(JsonTreeModel<N> model, JSONCompareMode mode) {
+        this.model = model;
+        this.mode = mode;
+    }
+
+    /**
+     * <p>Whether the given trees match in the given mode.</p>
+     * <p>
+     *     Only objects and arrays are compared at the top level, like {@link JSONAssert} does; any other root never
+     *     matches. A match is always a match for {@link JSONAssert} as well, but not every mismatch is a mismatch for
+     *     it - see the class documentation.
+     * </p>
+     * @param model the tree model of both trees
+     * @param expected the expected tree
+     * @param actual the actual tree
+     * @param mode the comparison mode
+     * @return {@code true} if the trees match
+     * @param <N> the node type of the compared trees
+     */
+    public static <N> boolean matches(JsonTreeModel<N> model, N expected, N actual, JSONCompareMode mode) {
+        Kind kind = model.kind(expected);
+        return (kind == Kind.OBJECT || kind == Kind.ARRAY) && new JsonTreeComparator<>(model, mode).matches(expected, actual);
+    }
+
+    /**
+     * <p>
+     *     Whether the given values of any kind match in the given mode. Unlike {@link #matches}, this also compares
+     *     scalars, as is done for array elements and object fields.
+     * </p>
+     * @param model the tree model of both values
+     * @param expected the expected value
+     * @param actual the actual value
+     * @param mode the comparison mode
+     * @return {@code true} if the values match
+     * @param <N> the node type of the compared values
+     */
+    public static <N> boolean valueMatches(JsonTreeModel<N> model, N expected, N actual, JSONCompareMode mode) {
+        return new JsonTreeComparator<>(model, mode).matches(expected, actual);
+    }
+
+    // --
+
+    private boolean matches(N expected, N actual) {
+        Kind kind = model.kind(expected);
+
+        if (kind != model.kind(actual)) {
+            return false;
+        }
+
+        return switch (kind) {
+            case OBJECT -> objectMatches(expected, actual);
+            case ARRAY -> arrayMatches(expected, actual);
+            case STRING -> model.stringValue(expected).equals(model.stringValue(actual));
+            case NUMBER -> model.doubleValue(expected) == model.doubleValue(actual);
+            case BOOLEAN -> model.booleanValue(expected) == model.booleanValue(actual);
+            case NULL -> true;
+            case OTHER -> false;
+        };
+    }
+
+    private boolean objectMatches(N expected, N actual) {
+        int fieldCount = 0;
+
+        for (String fieldName : model.fieldNames(expected)) {
+            N actualValue = model.field(actual, fieldName);
+
+            if (actualValue == null || !matches(Objects.requireNonNull(model.field(expected, fieldName)), actualValue)) {
+                return false;
+            }
+
+            fieldCount++;
+        }
+
+        // all expected fields are present, so any additional field is unexpected
+        return mode.isExtensible() || model.fieldNames(actual).size() == fieldCount;
+    }
+
+    private boolean arrayMatches(N expected, N actual) {
+        int size = model.size(expected);
+
+        if (size != model.size(actual)) {
+            return false;
+        }
+
+        if (mode.hasStrictOrder()) {
+            for (int i = 0; i < size; i++) {
+                if (!matches(model.element(expected, i), model.element(actual, i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (allScalars(expected, size)) {
+            return scalarsMatchInAnyOrder(expected, actual, size);
+        }
+
+        // JSONAssert matches up objects by a field with unique values, compared with their exact parsed types - leave
+        // those to the fallback rather than risk a match it would not find
+        return !allObjects(expected, size) && matchesInAnyOrder(expected, actual, size);
+    }
+
+    private boolean scalarsMatchInAnyOrder(N expected, N actual, int size) {
+        Map<Object, Integer> remaining = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            remaining.merge(scalarKey(model.element(expected, i)), 1, Integer::sum);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Object key = scalarKey(model.element(actual, i));
+
+            if (key == null || remaining.merge(key, -1, Integer::sum) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean matchesInAnyOrder(N expected, N actual, int size) {
+        BitSet matched = new BitSet(size);
+
+        // match each expected element with the first unmatched actual element, as JSONAssert does
+        for (int i = 0; i < size; i++) {
+            N expectedElement = model.element(expected, i);
+            Object expectedKey = scalarKey(expectedElement);
+            boolean found = false;
+
+            for (int j = matched.nextClearBit(0); j < size && !found; j = matched.nextClearBit(j + 1)) {
+                N actualElement = model.element(actual, j);
+
+                found = expectedKey != null
+                    ? expectedKey.equals(scalarKey(actualElement))
+                    : matches(expectedElement, actualElement);
+
+                if (found) {
+                    matched.set(j);
+                }
+            }
+
+            if (!found) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean allScalars(N array, int size) {
+        for (int i = 0; i < size; i++) {
+            if (scalarKey(model.element(array, i)) == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean allObjects(N array, int size) {
+        for (int i = 0; i < size; i++) {
+            if (model.kind(model.element(array, i)) != Kind.OBJECT) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>Key identifying a scalar the way JSONAssert's parsed values compare in {@link Object#equals(Object)}.</p>
+     */
+    @Nullable
+    private Object scalarKey(N node) {
+        return switch (model.kind(node)) {
+            case STRING -> model.stringValue(node);
+            case NUMBER -> model.isIntegral(node) ? model.integralValue(node) : (Double) model.doubleValue(node);
+            case BOOLEAN -> model.booleanValue(node);
+            case NULL -> NULL;
+            case OBJECT, ARRAY, OTHER -> null;
+        };
+    }
+}
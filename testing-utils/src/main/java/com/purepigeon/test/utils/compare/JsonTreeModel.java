@@ -0,0 +1,133 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * <p>
+ *     Read-only view of the tree model of a JSON library, as needed by {@link JsonTreeComparator}.
+ * </p>
+ * <p>
+ *     Methods other than {@link #kind(Object)} are only called for nodes of the matching {@link Kind}.
+ * </p>
+ * @param <N> the node type of the tree model
+ */
+@NullMarked
+public interface JsonTreeModel<N> {
+
+    /**
+     * <p>The kind of the given node.</p>
+     * @param node the node
+     * @return the kind of the node, or {@link Kind#OTHER} if it has no plain JSON equivalent
+     */
+    Kind kind(N node);
+
+    /**
+     * <p>The field names of the given object.</p>
+     * @param object the object node
+     * @return the field names
+     */
+    Collection<String> fieldNames(N object);
+
+    /**
+     * <p>The value of the given field of the given object.</p>
+     * @param object the object node
+     * @param fieldName the field name
+     * @return the value, or {@code null} if the object has no such field
+     */
+    @Nullable
+    N field(N object, String fieldName);
+
+    /**
+     * <p>The number of elements of the given array.</p>
+     * @param array the array node
+     * @return the number of elements
+     */
+    int size(N array);
+
+    /**
+     * <p>The element at the given index of the given array.</p>
+     * @param array the array node
+     * @param index the index
+     * @return the element
+     */
+    N element(N array, int index);
+
+    /**
+     * <p>The value of the given string node.</p>
+     * @param node the string node
+     * @return the string value
+     */
+    String stringValue(N node);
+
+    /**
+     * <p>The value of the given boolean node.</p>
+     * @param node the boolean node
+     * @return the boolean value
+     */
+    boolean booleanValue(N node);
+
+    /**
+     * <p>The value of the given number node.</p>
+     * @param node the number node
+     * @return the value as a double
+     */
+    double doubleValue(N node);
+
+    /**
+     * <p>Whether the given number node holds an integral number, i.e. is written without fraction or exponent.</p>
+     * @param node the number node
+     * @return {@code true} if the number is integral
+     */
+    boolean isIntegral(N node);
+
+    /**
+     * <p>The exact value of the given integral number node - see {@link #isIntegral(Object)}.</p>
+     * <p>Defaults to parsing the node as rendered by {@link #toJson(Object)}.</p>
+     * @param node the integral number node
+     * @return the exact value
+     */
+    default BigInteger integralValue(N node) {
+        return new BigInteger(toJson(node));
+    }
+
+    /**
+     * <p>Render the given node as JSON, for failure messages.</p>
+     * <p>Defaults to {@link Object#toString()}, which renders JSON for the tree models of all supported libraries.</p>
+     * @param node the node
+     * @return the node as JSON
+     */
+    default String toJson(N node) {
+        return node.toString();
+    }
+
+    /**
+     * <p>The kinds of JSON values.</p>
+     */
+    enum Kind {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL, OTHER
+    }
+}
@@ -0,0 +1,139 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.compare.JsonTreeModel.Kind;
+import org.json.JSONException;
+import org.jspecify.annotations.NullMarked;
+import org.skyscreamer.jsonassert.JSONCompare;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ *     Compares two JSON arrays element by element, as the elements are produced, stopping after a given number of
+ *     mismatches. Only one expected and one actual element need to be held in memory at a time.
+ * </p>
+ * <p>
+ *     Elements are compared with {@link JsonTreeComparator}, at the same index, so only modes with strict order are
+ *     supported; this is equivalent to comparing both arrays as a whole in such a mode.
+ * </p>
+ * <p>
+ *     Elements that do not match natively are compared again with {@link JSONCompare}, which has the final say, so
+ *     that the verdict is the same as that of {@link org.skyscreamer.jsonassert.JSONAssert}.
+ * </p>
+ * @param <N> the node type of the compared elements
+ */
+@NullMarked
+public final class StreamingArrayComparator<N> {
+
+    private final JsonTreeModel<N> model;
+    private final JSONCompareMode mode;
+    private final int maxMismatches;
+
+    /**
+     * <p>Construct a new comparator.</p>
+     * @param model the tree model of the compared elements
+     * @param mode the comparison mode, which must have strict order
+     * @param maxMismatches the number of mismatches after which to stop comparing
+     */
+    public StreamingArrayComparator(JsonTreeModel<N> model, JSONCompareMode mode, int maxMismatches) {
+        if (!mode.hasStrictOrder()) {
+            throw new IllegalArgumentException("Streaming comparison requires a mode with strict order: " + mode);
+        }
+
+        if (maxMismatches < 1) {
+            throw new IllegalArgumentException("Max mismatches must be positive: " + maxMismatches);
+        }
+
+        this.model = model;
+        this.mode = mode;
+        this.maxMismatches = maxMismatches;
+    }
+
+    /**
+     * <p>Compare the given arrays, consuming both iterators up to the first mismatches.</p>
+     * @param expected the expected elements
+     * @param actual the actual elements
+     * @return descriptions of the mismatches found, at most {@code maxMismatches}; empty if the arrays match
+     */
+    public List<String> compare(Iterator<? extends N> expected, Iterator<? extends N> actual) {
+        List<String> mismatches = new ArrayList<>();
+        int index = 0;
+
+        while (expected.hasNext() && actual.hasNext()) {
+            N expectedElement = expected.next();
+            N actualElement = actual.next();
+
+            if (!JsonTreeComparator.valueMatches(model, expectedElement, actualElement, mode) && !jsonAssertMatches(expectedElement, actualElement)) {
+                mismatches.add(describe(index, expectedElement, actualElement));
+
+                if (mismatches.size() == maxMismatches) {
+                    return mismatches;
+                }
+            }
+
+            index++;
+        }
+
+        if (expected.hasNext()) {
+            mismatches.add("[" + index + "]: Expected " + model.toJson(expected.next()) + " but none found");
+        } else if (actual.hasNext()) {
+            mismatches.add("[" + index + "]: Unexpected " + model.toJson(actual.next()));
+        }
+
+        return mismatches;
+    }
+
+    // --
+
+    private boolean jsonAssertMatches(N expected, N actual) {
+        try {
+            // JSONAssert only compares containers, so compare the elements as single-element arrays
+            return JSONCompare.compareJSON("[" + model.toJson(expected) + "]", "[" + model.toJson(actual) + "]", mode).passed();
+        } catch (JSONException e) {
+            return false;
+        }
+    }
+
+    private String describe(int index, N expected, N actual) {
+        String expectedJson = model.toJson(expected);
+        String actualJson = model.toJson(actual);
+
+        if (isContainer(expected) && isContainer(actual)) {
+            try {
+                return "[" + index + "]: " + JSONCompare.compareJSON(expectedJson, actualJson, mode).getMessage();
+            } catch (JSONException e) {
+                // fall through to the plain description
+            }
+        }
+
+        return "[" + index + "]: Expected " + expectedJson + " but found " + actualJson;
+    }
+
+    private boolean isContainer(N node) {
+        Kind kind = model.kind(node);
+        return kind == Kind.OBJECT || kind == Kind.ARRAY;
+    }
+}
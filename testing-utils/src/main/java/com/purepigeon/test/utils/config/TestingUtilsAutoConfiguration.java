@@ -23,14 +23,22 @@ package com.purepigeon.test.utils.config;
 import com.google.gson.Gson;
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactCache;
+import com.purepigeon.test.utils.artifact.ArtifactSource;
+import com.purepigeon.test.utils.artifact.ParsedArtifactCache;
+import com.purepigeon.test.utils.clock.SharedFixedClock;
+import com.purepigeon.test.utils.clock.SharedFixedClockRegistrar;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
 import com.purepigeon.test.utils.impl.gson.GsonTestingUtils;
 import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
 import com.purepigeon.test.utils.impl.jackson2.Jackson2TestingUtils;
 import com.purepigeon.test.utils.impl.jsonb.JsonbTestingUtils;
 import com.purepigeon.test.utils.impl.simple.SimpleTestingUtils;
+import com.purepigeon.test.utils.listener.TestingUtilsListener;
 import jakarta.json.bind.Jsonb;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -56,6 +64,16 @@ import tools.jackson.databind.ObjectMapper;
  * <p>
  *     Important to note that the Jackson implementation bean is marked with the {@link Primary} annotation.
  * </p>
+ * <p>
+ *     All registered {@link TestingUtils} beans are customized by the {@link TestingUtilsCustomizer} beans in the
+ *     application context. If the application context contains an {@link ArtifactSource}, {@link ArtifactCache} and /
+ *     or {@link ParsedArtifactCache} bean, they are set on all registered {@link TestingUtils} beans this way, and so
+ *     are the {@link TestingUtilsListener} beans registered as listeners.
+ * </p>
+ * <p>
+ *     If the {@link SharedFixedClock shared fixed clock mode} is enabled, the shared clock is registered as the
+ *     {@link java.time.Clock} bean.
+ * </p>
  */
 @AutoConfiguration
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -70,8 +88,8 @@ public class TestingUtilsAutoConfiguration {
     public static class JacksonConfiguration {
         @Bean
         @Primary
-        public TestingUtils jacksonTestingUtils(ObjectMapper objectMapper) {
-            return new JacksonTestingUtils(objectMapper);
+        public TestingUtils jacksonTestingUtils(ObjectMapper objectMapper, ObjectProvider<TestingUtilsCustomizer> customizers) {
+            return configure(new JacksonTestingUtils(objectMapper), customizers);
         }
     }
 
@@ -80,8 +98,8 @@ public class TestingUtilsAutoConfiguration {
     @Import(Jackson2AutoConfiguration.class)
     public static class Jackson2Configuration {
         @Bean
-        public TestingUtils jackson2TestingUtils(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
-            return new Jackson2TestingUtils(objectMapper);
+        public TestingUtils jackson2TestingUtils(com.fasterxml.jackson.databind.ObjectMapper objectMapper, ObjectProvider<TestingUtilsCustomizer> customizers) {
+            return configure(new Jackson2TestingUtils(objectMapper), customizers);
         }
     }
 
@@ -90,8 +108,8 @@ public class TestingUtilsAutoConfiguration {
     @Import(GsonAutoConfiguration.class)
     public static class GsonConfiguration {
         @Bean
-        public TestingUtils gsonTestingUtils(Gson gson) {
-            return new GsonTestingUtils(gson);
+        public TestingUtils gsonTestingUtils(Gson gson, ObjectProvider<TestingUtilsCustomizer> customizers) {
+            return configure(new GsonTestingUtils(gson), customizers);
         }
     }
 
@@ -101,8 +119,8 @@ public class TestingUtilsAutoConfiguration {
     @ConditionalOnResource(resources = { JSONB_SPI, JSON_SPI })
     public static class JsonbConfiguration {
         @Bean
-        public TestingUtils jsonbTestingUtils(Jsonb jsonb) {
-            return new JsonbTestingUtils(jsonb);
+        public TestingUtils jsonbTestingUtils(Jsonb jsonb, ObjectProvider<TestingUtilsCustomizer> customizers) {
+            return configure(new JsonbTestingUtils(jsonb), customizers);
         }
     }
 
@@ -110,8 +128,53 @@ public class TestingUtilsAutoConfiguration {
     @ConditionalOnMissingBean(TestingUtils.class)
     public static class StandaloneConfiguration {
         @Bean
-        public TestingUtils standaloneTestingUtils() {
-            return new SimpleTestingUtils();
+        public TestingUtils standaloneTestingUtils(ObjectProvider<TestingUtilsCustomizer> customizers) {
+            return configure(new SimpleTestingUtils(), customizers);
+        }
+    }
+
+    @Configuration
+    public static class SharedFixedClockConfiguration {
+        @Bean
+        public static SharedFixedClockRegistrar sharedFixedClockRegistrar() {
+            return new SharedFixedClockRegistrar();
+        }
+    }
+
+    @Configuration
+    public static class ArtifactSourceConfiguration {
+        @Bean
+        public TestingUtilsCustomizer artifactSourceTestingUtilsCustomizer(ObjectProvider<ArtifactSource> artifactSource) {
+            return testingUtils -> artifactSource.ifAvailable(testingUtils::setArtifactSource);
         }
     }
+
+    @Configuration
+    public static class CacheConfiguration {
+        @Bean
+        public TestingUtilsCustomizer cacheTestingUtilsCustomizer(
+            ObjectProvider<ArtifactCache> artifactCache,
+            ObjectProvider<ParsedArtifactCache> parsedArtifactCache
+        ) {
+            return testingUtils -> {
+                artifactCache.ifAvailable(testingUtils::setArtifactCache);
+                parsedArtifactCache.ifAvailable(testingUtils::setParsedArtifactCache);
+            };
+        }
+    }
+
+    @Configuration
+    public static class ListenerConfiguration {
+        @Bean
+        public TestingUtilsCustomizer listenerTestingUtilsCustomizer(ObjectProvider<TestingUtilsListener> listeners) {
+            return testingUtils -> listeners.orderedStream().forEach(testingUtils::addListener);
+        }
+    }
+
+    // --
+
+    private static TestingUtils configure(AbstractTestingUtils testingUtils, ObjectProvider<TestingUtilsCustomizer> customizers) {
+        customizers.orderedStream().forEach(customizer -> customizer.customize(testingUtils));
+        return testingUtils;
+    }
 }
@@ -0,0 +1,42 @@
+package com.purepigeon.test.utils.config;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>
+ *     Callback to customize the {@link TestingUtils} beans registered by {@link TestingUtilsAutoConfiguration}, before
+ *     they are used. All beans of this type in the application context are applied, in order.
+ * </p>
+ */
+@NullMarked
+@FunctionalInterface
+public interface TestingUtilsCustomizer {
+
+    /**
+     * <p>Customize the given instance.</p>
+     * @param testingUtils the instance to customize
+     */
+    void customize(AbstractTestingUtils testingUtils);
+}
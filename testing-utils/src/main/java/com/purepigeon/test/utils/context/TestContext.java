@@ -0,0 +1,66 @@
+package com.purepigeon.test.utils.context;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import com.purepigeon.test.utils.clock.MutableClock;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>
+ *     The test currently executing on a thread, as bound by {@link TestContextHolder}.
+ * </p>
+ * @param suite the test suite
+ * @param testCase the test case, or {@code null} if the context is not bound for a single test method
+ * @param clock the clock of the test, read through {@link MutableClock#isTestBound() test bound} clocks, or
+ *              {@code null} if the test is not annotated with {@link FixedClock}
+ */
+@NullMarked
+public record TestContext(String suite, @Nullable String testCase, @Nullable MutableClock clock) {
+
+    /**
+     * <p>Create a context without a clock.</p>
+     * @param suite the test suite
+     * @param testCase the test case, or {@code null} if the context is not bound for a single test method
+     */
+    public TestContext(String suite, @Nullable String testCase) {
+        this(suite, testCase, null);
+    }
+
+    /**
+     * <p>Copy this context with a different suite.</p>
+     * @param suite the new suite
+     * @return the new context
+     */
+    public TestContext withSuite(String suite) {
+        return new TestContext(suite, testCase, clock);
+    }
+
+    /**
+     * <p>Copy this context with a different clock.</p>
+     * @param clock the new clock
+     * @return the new context
+     */
+    public TestContext withClock(@Nullable MutableClock clock) {
+        return new TestContext(suite, testCase, clock);
+    }
+}
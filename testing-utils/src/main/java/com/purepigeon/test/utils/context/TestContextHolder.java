@@ -0,0 +1,172 @@
+package com.purepigeon.test.utils.context;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.extension.TestingUtilsExtension;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ *     Holds the {@link TestContext} of the test executing on the current thread.
+ * </p>
+ * <p>
+ *     {@link TestingUtilsExtension} binds the context of each test method for the thread it executes
+ *     on, and {@link AbstractTestingUtils} resolves its suite from it. This way, a single {@code TestingUtils}
+ *     instance - such as a bean of a cached Spring context - can serve test classes executing in parallel.
+ * </p>
+ * <p>
+ *     Contexts are not inherited by other threads, not even by threads started while they are bound: threads of pools
+ *     created lazily during a test would otherwise keep the context of that test for the rest of the run. Tasks handed
+ *     to other threads can take the context along explicitly - see {@link #wrap(Runnable)},
+ *     {@link #wrap(Callable)} and {@link #wrap(Executor)}.
+ * </p>
+ */
+@NullMarked
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TestContextHolder {
+
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * <p>Retrieve the context bound to the current thread, if any.</p>
+     * @return the current context
+     */
+    public static Optional<TestContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * <p>Like {@link #current()}, but without allocating, for use on hot paths.</p>
+     * @return the current context, or {@code null} if none is bound
+     */
+    @Nullable
+    public static TestContext get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * <p>
+     *     Wrap the given task so that it runs with the context bound to the current thread at the time of this call,
+     *     whichever thread runs it.
+     * </p>
+     * @param task the task to wrap
+     * @return the wrapped task, or the task itself if no context is bound
+     */
+    public static Runnable wrap(Runnable task) {
+        TestContext context = CURRENT.get();
+        if (context == null) return task;
+
+        return () -> {
+            try (Binding ignored = bind(context)) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * <p>
+     *     Wrap the given task so that it runs with the context bound to the current thread at the time of this call,
+     *     whichever thread runs it.
+     * </p>
+     * @param task the task to wrap
+     * @return the wrapped task, or the task itself if no context is bound
+     * @param <V> the result type of the task
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        TestContext context = CURRENT.get();
+        if (context == null) return task;
+
+        return () -> {
+            try (Binding ignored = bind(context)) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * <p>
+     *     Wrap the given executor so that every task runs with the context bound to the submitting thread at the time
+     *     of submission - see {@link #wrap(Runnable)}.
+     * </p>
+     * @param executor the executor to wrap
+     * @return the wrapped executor
+     */
+    public static Executor wrap(Executor executor) {
+        return command -> executor.execute(wrap(command));
+    }
+
+    /**
+     * <p>Bind the given context to the current thread, until the returned binding is closed.</p>
+     * @param context the context to bind
+     * @return the binding, which restores the previously bound context when closed
+     */
+    public static Binding bind(TestContext context) {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(context);
+        return binding;
+    }
+
+    /**
+     * <p>
+     *     Replace the context bound to the current thread, if any, without creating a new binding - closing the
+     *     current binding still restores the context bound before it.
+     * </p>
+     * @param context the context to bind instead
+     */
+    public static void replace(TestContext context) {
+        if (CURRENT.get() != null) {
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * <p>A context bound to a thread. Must be closed on the same thread.</p>
+     */
+    public static final class Binding implements AutoCloseable {
+
+        @Nullable
+        private final TestContext previous;
+
+        private Binding(@Nullable TestContext previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * <p>Restore the context bound before this binding.</p>
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
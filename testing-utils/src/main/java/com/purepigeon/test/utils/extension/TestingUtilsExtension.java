@@ -25,7 +25,14 @@ import com.purepigeon.test.utils.annotation.FixedClock;
 import com.purepigeon.test.utils.annotation.Suite;
 import com.purepigeon.test.utils.annotation.TestCase;
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.clock.MutableClock;
+import com.purepigeon.test.utils.clock.SharedFixedClock;
+import com.purepigeon.test.utils.clock.VirtualTimeScheduler;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.report.PerformanceReport;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.*;
 import org.springframework.context.ApplicationContext;
@@ -34,23 +41,43 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
 
 import static org.mockito.Mockito.when;
 
 /**
  * <p>
- *     JUnit 5 extension that sets the {@code suite} property in {@link TestingUtils}, resolves the {@code testCase}
- *     arguments for test methods, and handles {@link FixedClock} annotations.
+ *     JUnit 5 extension that sets the {@code suite} property in {@link TestingUtils}, resolves the {@code testCase},
+ *     {@link MutableClock} and {@link VirtualTimeScheduler} arguments for test methods, and handles {@link FixedClock}
+ *     annotations.
  * </p>
  * <p>
  *     The extension works with or without Spring.
  * </p>
  * <p>
+ *     The suite and test case of each test method are bound to the thread executing it via
+ *     {@link TestContextHolder}, so that {@link TestingUtils} instances shared between test classes resolve the right
+ *     suite under parallel execution. The {@code suite} property is still set, for threads without a bound context.
+ *     Likewise, the instant of a {@link FixedClock} test is bound as a {@link MutableClock} of its own, which the
+ *     shared {@link Clock} bean reads from the test thread, and from tasks it hands to other threads via
+ *     {@link TestContextHolder#wrap(Runnable)}.
+ * </p>
+ * <p>
+ *     Optionally, the extension collects a {@link PerformanceReport} of the time tests spend in {@link TestingUtils}.
+ * </p>
+ * <p>
  *     See the documentation(s) of {@link Suite} and {@link TestCase} to customize behaviour.
  * </p>
  * <p>
@@ -59,7 +86,7 @@ import static org.mockito.Mockito.when;
  * </p>
  */
 @NullMarked
-public class TestingUtilsExtension implements TestInstancePostProcessor, BeforeEachCallback, ParameterResolver  {
+public class TestingUtilsExtension implements TestInstancePostProcessor, BeforeEachCallback, AfterEachCallback, ParameterResolver  {
 
     /**
      * Test methods receive the test case name as this argument.
@@ -68,9 +95,15 @@ public class TestingUtilsExtension implements TestInstancePostProcessor, BeforeE
 
     private static final String NON_PRESERVED_PARAM_PATTERN = "^arg\\d+$";
 
-    private String suite = "";
-    private boolean usesSpring = true;
-    private boolean usesFixedClock = false;
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestingUtilsExtension.class);
+
+    private static final String BINDING_KEY = "binding";
+
+    private static final String SHARED_CLOCK_KEY = "sharedClock";
+
+    private static final String STATE_KEY = "state";
+
+    private static final String TEST_RUN_KEY = "testRun";
 
     public static String resolveTestCase(ExtensionContext extensionContext) {
         Method method = extensionContext.getRequiredTestMethod();
@@ -82,30 +115,41 @@ public class TestingUtilsExtension implements TestInstancePostProcessor, BeforeE
 
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
-        Class<?> testClass = testInstance.getClass();
-
-        String resolvedSuite = resolveSuite(testClass);
-
-        this.usesFixedClock = testClass.isAnnotationPresent(FixedClock.class) || Arrays.stream(testClass.getDeclaredMethods())
-            .filter(method -> method.isAnnotationPresent(Test.class))
-            .anyMatch(method -> method.isAnnotationPresent(FixedClock.class));
+        ClassMetadata metadata = getMetadata(context, testInstance.getClass());
+        SpringBeans beans = null;
 
         try {
             ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
-            applicationContext.getBeansOfType(TestingUtils.class).values()
-                .forEach(instance -> instance.setSuite(resolvedSuite));
+            beans = getSpringBeans(context, applicationContext, metadata);
+            beans.testingUtils().forEach(instance -> instance.setSuite(metadata.suite()));
         } catch (NoClassDefFoundError e) {
-            this.usesSpring = false;
-        } finally {
-            this.suite = resolvedSuite;
+            // Spring is not in use
         }
+
+        context.getStore(NAMESPACE).put(STATE_KEY, new State(metadata, beans));
+        getReport(context);
     }
 
     @Override
     public void beforeEach(ExtensionContext context) throws IllegalAccessException {
-        if (!usesSpring) setSuiteForNonSpringUsage(context);
-        if (usesFixedClock && usesSpring) mockSpringClock(context);
-        if (usesFixedClock && !usesSpring) mockPlainClock(context);
+        State state = getState(context);
+        ClassMetadata metadata = state.metadata();
+
+        TestContext testContext = new TestContext(metadata.suite(), resolveTestCase(context));
+        bind(context, testContext);
+        startTestRun(context, testContext);
+
+        if (state.beans() == null) setSuiteForNonSpringUsage(context, metadata);
+        if (metadata.usesFixedClock() && state.beans() != null) fixSpringClock(context, metadata, state.beans());
+        if (metadata.usesFixedClock() && state.beans() == null) fixPlainClock(context, metadata);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        finishTestRun(context);
+        unbind(context);
+
+        if (context.getStore(NAMESPACE).remove(SHARED_CLOCK_KEY) != null) SharedFixedClock.release();
     }
 
     @Override
@@ -117,92 +161,292 @@ public class TestingUtilsExtension implements TestInstancePostProcessor, BeforeE
             throw new IllegalStateException("Encountered non-preserved parameter name. Please use the '-parameters' flag for compilation / add <parameters>true</parameters> to maven-compiler-plugin configuration");
         }
 
-        return name.equals(TEST_CASE_ARGUMENT_NAME) && parameter.getType().equals(String.class);
+        return (name.equals(TEST_CASE_ARGUMENT_NAME) && parameter.getType().equals(String.class))
+            || parameter.getType().equals(MutableClock.class)
+            || parameter.getType().equals(VirtualTimeScheduler.class);
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        if (parameterContext.getParameter().getType().equals(MutableClock.class)) {
+            return resolveClock(extensionContext);
+        }
+        if (parameterContext.getParameter().getType().equals(VirtualTimeScheduler.class)) {
+            return resolveScheduler(extensionContext);
+        }
+
         return resolveTestCase(extensionContext);
     }
 
     // --
 
-    private String resolveSuite(Class<?> testClass) {
-        Suite suiteAnnotation = testClass.getAnnotation(Suite.class);
+    private ClassMetadata getMetadata(ExtensionContext context, Class<?> testClass) {
+        return context.getRoot().getStore(NAMESPACE).computeIfAbsent(testClass, ClassMetadata::resolve, ClassMetadata.class);
+    }
 
-        if (suiteAnnotation == null) {
-            return testClass.getSimpleName();
+    private SpringBeans getSpringBeans(ExtensionContext context, ApplicationContext applicationContext, ClassMetadata metadata) {
+        State cached = context.getStore(NAMESPACE).get(STATE_KEY, State.class);
+
+        if (cached != null && cached.beans() != null && cached.beans().applicationContext() == applicationContext) {
+            return cached.beans();
         }
-        if (suiteAnnotation.value().isBlank()) {
-            throw new IllegalStateException("@Suite value cannot be blank - please provide a non-blank value or remove the annotation completely to use the default suite name (" + testClass.getSimpleName() + ")");
+
+        boolean fixesClock = metadata.usesFixedClock() && metadata.classFixedClock() != null;
+
+        return new SpringBeans(
+            applicationContext,
+            List.copyOf(applicationContext.getBeansOfType(TestingUtils.class).values()),
+            fixesClock ? applicationContext.getBean(Clock.class) : null,
+            fixesClock ? applicationContext.getBeanProvider(VirtualTimeScheduler.class).getIfAvailable() : null
+        );
+    }
+
+    private State getState(ExtensionContext context) {
+        State state = context.getStore(NAMESPACE).get(STATE_KEY, State.class);
+
+        if (state == null) {
+            throw new IllegalStateException("No state found for " + context.getRequiredTestClass().getName() + " - was the test instance post-processed?");
         }
 
-        return suiteAnnotation.value() + (suiteAnnotation.appendClassName() ? "/" + testClass.getSimpleName() : "");
+        return state;
     }
 
-    private void setSuiteForNonSpringUsage(ExtensionContext context) throws IllegalAccessException {
-        Object testInstance = context.getTestInstance().orElse(null);
-        if (testInstance == null) return;
+    private void bind(ExtensionContext context, TestContext testContext) {
+        context.getStore(NAMESPACE).put(BINDING_KEY, TestContextHolder.bind(testContext));
+    }
 
-        Field testingUtilsField = getTestClassField(testInstance, TestingUtils.class).orElse(null);
-        if (testingUtilsField == null) return;
+    private void unbind(ExtensionContext context) {
+        TestContextHolder.Binding binding = context.getStore(NAMESPACE).remove(BINDING_KEY, TestContextHolder.Binding.class);
+        if (binding != null) binding.close();
+    }
+
+    @Nullable
+    private PerformanceReport getReport(ExtensionContext context) {
+        if (!context.getConfigurationParameter(PerformanceReport.ENABLED_PARAMETER, Boolean::parseBoolean).orElse(false)) {
+            return null;
+        }
 
-        testingUtilsField.setAccessible(true);
-        TestingUtils testingUtils = (TestingUtils) testingUtilsField.get(testInstance);
-        testingUtils.setSuite(suite);
-        testingUtilsField.setAccessible(false);
+        Path directory = Path.of(context.getConfigurationParameter(PerformanceReport.DIRECTORY_PARAMETER).orElse(PerformanceReport.DEFAULT_DIRECTORY));
+        Optional<String> forkId = context.getConfigurationParameter(PerformanceReport.FORK_ID_PARAMETER);
+
+        return context.getRoot().getStore(NAMESPACE).computeIfAbsent(PerformanceReport.class, key -> forkId
+            .map(id -> PerformanceReport.start(directory, id))
+            .orElseGet(() -> PerformanceReport.start(directory)), PerformanceReport.class);
     }
 
-    private void mockSpringClock(ExtensionContext context) {
-        Instant instant = getFixedClockValue(context);
+    private void startTestRun(ExtensionContext context, TestContext testContext) {
+        PerformanceReport report = getReport(context);
 
-        Clock clock = SpringExtension.getApplicationContext(context).getBean(Clock.class);
-        mockClock(clock, instant);
+        if (report != null) {
+            context.getStore(NAMESPACE).put(TEST_RUN_KEY, report.startTest(testContext.suite(), Objects.requireNonNull(testContext.testCase())));
+        }
     }
 
-    private void mockPlainClock(ExtensionContext context) throws IllegalAccessException {
-        Instant instant = getFixedClockValue(context);
+    private void finishTestRun(ExtensionContext context) {
+        PerformanceReport.TestRun testRun = context.getStore(NAMESPACE).remove(TEST_RUN_KEY, PerformanceReport.TestRun.class);
+        if (testRun != null) testRun.finish();
+    }
 
+    private void setSuiteForNonSpringUsage(ExtensionContext context, ClassMetadata metadata) throws IllegalAccessException {
         Object testInstance = context.getTestInstance().orElse(null);
-        if (testInstance == null) return;
+        if (testInstance == null || metadata.testingUtilsField() == null) return;
+
+        TestingUtils testingUtils = (TestingUtils) metadata.testingUtilsField().get(testInstance);
+        testingUtils.setSuite(metadata.suite());
+    }
 
-        Field clockField = getTestClassField(testInstance, Clock.class).orElse(null);
-        if (clockField == null) return;
+    private void fixSpringClock(ExtensionContext context, ClassMetadata metadata, SpringBeans beans) {
+        FixedClockValue value = metadata.fixedClockValue(context.getRequiredTestMethod());
+
+        Clock clock = Objects.requireNonNull(beans.clock());
+
+        if (clock == SharedFixedClock.get()) {
+            SharedFixedClock.acquire();
+            context.getStore(NAMESPACE).put(SHARED_CLOCK_KEY, true);
+        }
 
-        clockField.setAccessible(true);
-        Clock clock = (Clock) clockField.get(testInstance);
-        mockClock(clock, instant);
-        clockField.setAccessible(false);
+        fixClock(clock, value);
+
+        if (clock instanceof MutableClock mutableClock && mutableClock.isTestBound()) {
+            MutableClock testClock = new MutableClock(value.instant());
+            testClock.setTick(value.tick());
+            TestContextHolder.current().ifPresent(testContext -> TestContextHolder.replace(testContext.withClock(testClock)));
+        }
+
+        if (beans.scheduler() != null) beans.scheduler().reset();
     }
 
-    private Optional<Field> getTestClassField(Object testInstance, Class<?> clazz) {
-        return Arrays.stream(testInstance.getClass().getDeclaredFields())
-            .filter(field -> field.getType().isAssignableFrom(clazz))
-            .findFirst();
+    private void fixPlainClock(ExtensionContext context, ClassMetadata metadata) throws IllegalAccessException {
+        FixedClockValue value = metadata.fixedClockValue(context.getRequiredTestMethod());
+
+        Object testInstance = context.getTestInstance().orElse(null);
+        if (testInstance == null || metadata.clockField() == null) return;
+
+        Clock clock = (Clock) metadata.clockField().get(testInstance);
+        fixClock(clock, value);
+
+        if (metadata.schedulerField() != null && metadata.schedulerField().get(testInstance) instanceof VirtualTimeScheduler scheduler) {
+            scheduler.reset();
+        }
     }
 
-    private void mockClock(Clock clock, Instant instant) {
+    private void fixClock(Clock clock, FixedClockValue value) {
+        if (clock instanceof MutableClock mutableClock) {
+            mutableClock.set(value.instant());
+            mutableClock.setTick(value.tick());
+            return;
+        }
+
+        if (value.tick().length > 0) {
+            throw new IllegalStateException("@FixedClock tick is only supported for MutableClock clocks - found " + clock.getClass().getName());
+        }
+
+        Instant instant = value.instant();
         when(clock.instant()).thenReturn(instant);
         when(clock.getZone()).thenReturn(ZoneOffset.UTC);
     }
 
-    private Instant getFixedClockValue(ExtensionContext context) {
-        FixedClock classAnnotation = context.getTestClass()
-            .map(clazz -> clazz.getDeclaredAnnotation(FixedClock.class))
-            .orElse(null);
+    private MutableClock resolveClock(ExtensionContext context) {
+        State state = getState(context);
+        ClassMetadata metadata = state.metadata();
+
+        if (!metadata.usesFixedClock()) {
+            throw new ParameterResolutionException("MutableClock parameters require the test class to be annotated with @FixedClock");
+        }
+
+        Clock clock;
+
+        if (state.beans() != null) {
+            clock = state.beans().clock();
+        } else {
+            Field clockField = metadata.clockField();
+            if (clockField == null) throw new ParameterResolutionException("MutableClock parameters require a Clock field in the test class");
 
-        if (classAnnotation == null) {
-            throw new IllegalStateException("Also annotate your test class with @FixedClock - it cannot be used solely on the method level");
+            try {
+                clock = (Clock) clockField.get(context.getRequiredTestInstance());
+            } catch (IllegalAccessException e) {
+                throw new ParameterResolutionException("Could not read the Clock field " + clockField.getName(), e);
+            }
         }
 
-        FixedClock methodAnnotation = context.getTestMethod()
-            .map(method -> method.getDeclaredAnnotation(FixedClock.class))
-            .orElse(null);
+        if (!(clock instanceof MutableClock mutableClock)) {
+            throw new ParameterResolutionException("Expected the fixed clock to be a MutableClock, but found " + (clock == null ? null : clock.getClass().getName()));
+        }
 
-        String value = Optional.of(Optional.ofNullable(methodAnnotation).orElse(classAnnotation))
-            .map(FixedClock::value)
-            .orElse(FixedClock.DEFAULT_INSTANT);
+        return mutableClock;
+    }
+
+    private VirtualTimeScheduler resolveScheduler(ExtensionContext context) {
+        State state = getState(context);
+        Object scheduler;
+
+        if (state.beans() != null) {
+            scheduler = state.beans().scheduler();
+        } else {
+            Field schedulerField = state.metadata().schedulerField();
+            if (schedulerField == null) throw new ParameterResolutionException("VirtualTimeScheduler parameters require a ScheduledExecutorService field in the test class");
+
+            try {
+                scheduler = schedulerField.get(context.getRequiredTestInstance());
+            } catch (IllegalAccessException e) {
+                throw new ParameterResolutionException("Could not read the ScheduledExecutorService field " + schedulerField.getName(), e);
+            }
+        }
+
+        if (!(scheduler instanceof VirtualTimeScheduler virtualTimeScheduler)) {
+            throw new ParameterResolutionException("VirtualTimeScheduler parameters require @FixedClock(scheduler = true) on the test class, or a VirtualTimeScheduler field without Spring");
+        }
+
+        return virtualTimeScheduler;
+    }
+
+    /**
+     * <p>
+     *     Reflection results of a test class, resolved once and kept in the root {@link ExtensionContext.Store}, as
+     *     they never change during a test run.
+     * </p>
+     */
+    private record ClassMetadata(
+        String suite,
+        boolean usesFixedClock,
+        @Nullable FixedClock classFixedClock,
+        @Nullable Field testingUtilsField,
+        @Nullable Field clockField,
+        @Nullable Field schedulerField,
+        Map<Method, FixedClockValue> fixedClockValues
+    ) {
+
+        static ClassMetadata resolve(Class<?> testClass) {
+            boolean usesFixedClock = testClass.isAnnotationPresent(FixedClock.class) || Arrays.stream(testClass.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Test.class))
+                .anyMatch(method -> method.isAnnotationPresent(FixedClock.class));
+
+            return new ClassMetadata(
+                resolveSuite(testClass),
+                usesFixedClock,
+                testClass.getDeclaredAnnotation(FixedClock.class),
+                getTestClassField(testClass, type -> type.isAssignableFrom(TestingUtils.class)),
+                getTestClassField(testClass, type -> type.isAssignableFrom(Clock.class) || Clock.class.isAssignableFrom(type)),
+                getTestClassField(testClass, ScheduledExecutorService.class::isAssignableFrom),
+                new ConcurrentHashMap<>()
+            );
+        }
 
-        return Instant.parse(value);
+        FixedClockValue fixedClockValue(Method testMethod) {
+            if (classFixedClock == null) {
+                throw new IllegalStateException("Also annotate your test class with @FixedClock - it cannot be used solely on the method level");
+            }
+
+            return fixedClockValues.computeIfAbsent(testMethod, method -> {
+                FixedClock annotation = Optional.ofNullable(method.getDeclaredAnnotation(FixedClock.class)).orElse(classFixedClock);
+                Duration[] tick = Arrays.stream(annotation.tick()).map(Duration::parse).toArray(Duration[]::new);
+                return new FixedClockValue(Instant.parse(annotation.value()), tick);
+            });
+        }
+
+        private static String resolveSuite(Class<?> testClass) {
+            Suite suiteAnnotation = testClass.getAnnotation(Suite.class);
+
+            if (suiteAnnotation == null) {
+                return testClass.getSimpleName();
+            }
+            if (suiteAnnotation.value().isBlank()) {
+                throw new IllegalStateException("@Suite value cannot be blank - please provide a non-blank value or remove the annotation completely to use the default suite name (" + testClass.getSimpleName() + ")");
+            }
+
+            return suiteAnnotation.value() + (suiteAnnotation.appendClassName() ? "/" + testClass.getSimpleName() : "");
+        }
+
+        private static @Nullable Field getTestClassField(Class<?> testClass, Predicate<Class<?>> typeFilter) {
+            Field field = Arrays.stream(testClass.getDeclaredFields())
+                .filter(candidate -> typeFilter.test(candidate.getType()))
+                .findFirst()
+                .orElse(null);
+
+            if (field != null) field.setAccessible(true);
+
+            return field;
+        }
+    }
+
+    /**
+     * <p>The resolved {@link FixedClock} annotation applying to a test method.</p>
+     */
+    private record FixedClockValue(Instant instant, Duration[] tick) {
+    }
+
+    /**
+     * <p>Beans of the application context of a test class, resolved once per context.</p>
+     * @param clock the {@link Clock} bean, or {@code null} if the class is not annotated with {@link FixedClock}
+     * @param scheduler the {@link VirtualTimeScheduler} bean, or {@code null} if there is none
+     */
+    private record SpringBeans(ApplicationContext applicationContext, List<TestingUtils> testingUtils, @Nullable Clock clock, @Nullable VirtualTimeScheduler scheduler) {
+    }
+
+    /**
+     * <p>State of a test class, kept in the {@link ExtensionContext.Store} rather than in the extension.</p>
+     * @param beans the resolved Spring beans, or {@code null} if Spring is not in use
+     */
+    private record State(ClassMetadata metadata, @Nullable SpringBeans beans) {
     }
 }
@@ -20,12 +20,80 @@ package com.purepigeon.test.utils.impl;
  * #L%
  */
 
+import com.purepigeon.test.utils.DefaultArtifactType;
 import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactCache;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.ArtifactSource;
+import com.purepigeon.test.utils.artifact.ClasspathArtifactSource;
+import com.purepigeon.test.utils.artifact.ParsedArtifactCache;
+import com.purepigeon.test.utils.artifact.ReadMode;
+import com.purepigeon.test.utils.artifact.ReadStats;
+import com.purepigeon.test.utils.compare.JsonTreeModel;
+import com.purepigeon.test.utils.compare.StreamingArrayComparator;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.jfr.ArtifactReadEvent;
+import com.purepigeon.test.utils.jfr.AssertionEvent;
+import com.purepigeon.test.utils.jfr.MappingEvent;
+import com.purepigeon.test.utils.listener.TestingUtilsListener;
+import com.purepigeon.test.utils.listener.TestingUtilsListeners;
+import lombok.NonNull;
+import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <p>
- *     Abstract class that encapsulates 'suite' handling, which is likely common, regardless of implementation.
+ *     Abstract class that encapsulates 'suite' handling and artifact reading, which are likely common, regardless of
+ *     implementation.
+ * </p>
+ * <p>
+ *     Artifacts are read from an {@link ArtifactSource}, by default the classpath - see
+ *     {@link #setArtifactSource(ArtifactSource)}.
+ * </p>
+ * <p>
+ *     Artifact contents can optionally be cached in memory by setting an {@link ArtifactCache} - see
+ *     {@link #setArtifactCache(ArtifactCache)}. Implementations backed by a library with a tree model can
+ *     additionally cache parsed artifacts via {@link #readArtifactTree}, if a {@link ParsedArtifactCache} is set.
+ * </p>
+ * <p>
+ *     Large artifacts are memory mapped rather than copied into the heap, if the artifact source supports it - see
+ *     {@link ReadMode}.
+ * </p>
+ * <p>
+ *     Implementations backed by a library with a tree model can speed up {@link #assertObject} by comparing trees
+ *     directly - see {@link #matchesExpectedTree}.
+ * </p>
+ * <p>
+ *     Implementations should parse artifacts via {@link #readArtifact} rather than {@link #readString}, so that large
+ *     artifacts are streamed into the parser instead of being held in memory as a string as well.
+ * </p>
+ * <p>
+ *     Implementations provide the mapping between JSON and objects via {@link #parseArtifact}, {@link #parseJson} and
+ *     {@link #serialize}, around which this class records {@link MappingEvent}s and notifies the listeners. These
+ *     throw {@link UnsupportedOperationException} unless overridden, so implementations that override the mapping
+ *     methods of {@link TestingUtils} themselves keep working, just without events and notifications.
  * </p>
  * <p>
  *     Classes that want to implement the {@link TestingUtils} interface should extend this class instead.
@@ -35,21 +103,853 @@ import org.jspecify.annotations.NullMarked;
 public abstract class AbstractTestingUtils implements TestingUtils {
 
     /**
-     * <p>The current suite value.</p>
+     * <p>The default {@link #setMappedReadThreshold(long) mapped read threshold}, 64 MB.</p>
+     */
+    public static final long DEFAULT_MAPPED_READ_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * <p>The default number of mismatches after which {@link #assertObjectStreaming} stops comparing.</p>
+     */
+    public static final int DEFAULT_MAX_MISMATCHES = 10;
+
+    /**
+     * <p>
+     *     The suite value used by threads with no {@link TestContext} bound - see {@link #getSuite()}.
+     * </p>
      */
     protected String suite = "";
 
+    private final ThreadLocal<ReadMode> readModeOverride = new ThreadLocal<>();
+
+    private final LongAdder mappedBytes = new LongAdder();
+
+    private final LongAdder copiedBytes = new LongAdder();
+
+    private final TestingUtilsListeners listeners = TestingUtilsListeners.fromServices();
+
+    private ReadMode readMode = ReadMode.AUTO;
+
+    private long mappedReadThreshold = DEFAULT_MAPPED_READ_THRESHOLD;
+
+    @Nullable
+    private ArtifactSource artifactSource;
+
+    @Nullable
+    private ArtifactCache artifactCache;
+
+    @Nullable
+    private ParsedArtifactCache parsedArtifactCache;
+
+    /**
+     * <p>
+     *     Retrieve the suite of the {@link TestContext} bound to the current thread, falling back to the suite value
+     *     of this instance if none is bound.
+     * </p>
+     * <p>
+     *     As {@link WithTestingUtils} binds the context of each test, instances shared between test classes - such as
+     *     beans of a cached Spring context - resolve the right suite, even when the classes are executed in parallel.
+     * </p>
+     * @return the full test suite name / path.
+     * @throws IllegalStateException If the current suite value is null or blank.
+     */
     @Override
     public String getSuite() throws IllegalStateException {
-        if (suite.isBlank()) {
+        String current = TestContextHolder.current()
+            .map(TestContext::suite)
+            .orElse(suite);
+
+        if (current.isBlank()) {
             throw new IllegalStateException("Suite property is not set");
         }
 
-        return suite;
+        return current;
     }
 
+    /**
+     * <p>
+     *     Set the suite value of this instance. If a {@link TestContext} is bound to the current thread, its suite is
+     *     replaced as well, for the rest of the current test.
+     * </p>
+     * @param suite the new value for suite
+     */
     @Override
     public void setSuite(String suite) {
         this.suite = suite;
+        TestContextHolder.current().ifPresent(context -> TestContextHolder.replace(context.withSuite(suite)));
+    }
+
+    /**
+     * <p>
+     *     Set the source artifacts are read from. Defaults to a {@link ClasspathArtifactSource} for the class loader
+     *     of this class, which resolves artifacts via {@link #getArtifactPath}. Overrides of that method therefore
+     *     only apply as long as the default source is used.
+     * </p>
+     * <p>
+     *     Contents already held in an {@link ArtifactCache} or {@link ParsedArtifactCache} are not dropped when the
+     *     source changes.
+     * </p>
+     * @param artifactSource the source to use
+     */
+    public void setArtifactSource(@NonNull ArtifactSource artifactSource) {
+        this.artifactSource = artifactSource;
+    }
+
+    /**
+     * <p>Retrieve the source artifacts are read from.</p>
+     * @return the artifact source
+     */
+    public ArtifactSource getArtifactSource() {
+        if (artifactSource == null) {
+            // created on first use rather than on construction, as it calls back into this instance
+            artifactSource = new ClasspathArtifactSource(getClass().getClassLoader(),
+                key -> getArtifactPath(key.suite(), key.testCase(), key.artifactType(), key.artifactName()));
+        }
+
+        return artifactSource;
+    }
+
+    /**
+     * <p>Set how artifacts are read, unless selected otherwise for a single read. Defaults to {@link ReadMode#AUTO}.</p>
+     * @param readMode the read mode to use
+     */
+    public void setReadMode(@NonNull ReadMode readMode) {
+        this.readMode = readMode;
+    }
+
+    /**
+     * <p>Retrieve how artifacts are read, unless selected otherwise for a single read.</p>
+     * @return the read mode
+     */
+    public ReadMode getReadMode() {
+        return readMode;
+    }
+
+    /**
+     * <p>
+     *     Set the size from which artifacts are memory mapped in {@link ReadMode#AUTO}. Defaults to
+     *     {@link #DEFAULT_MAPPED_READ_THRESHOLD}.
+     * </p>
+     * @param mappedReadThreshold the threshold, in bytes
+     */
+    public void setMappedReadThreshold(long mappedReadThreshold) {
+        if (mappedReadThreshold < 0) {
+            throw new IllegalArgumentException("Mapped read threshold must not be negative: " + mappedReadThreshold);
+        }
+
+        this.mappedReadThreshold = mappedReadThreshold;
+    }
+
+    /**
+     * <p>Retrieve the size from which artifacts are memory mapped in {@link ReadMode#AUTO}.</p>
+     * @return the threshold, in bytes
+     */
+    public long getMappedReadThreshold() {
+        return mappedReadThreshold;
+    }
+
+    /**
+     * <p>Retrieve how many artifact bytes have been mapped versus copied so far.</p>
+     * @return the current read statistics
+     */
+    public ReadStats getReadStats() {
+        return new ReadStats(mappedBytes.sum(), copiedBytes.sum());
+    }
+
+    /**
+     * <p>
+     *     Set the cache used for artifact contents, or {@code null} to read every artifact from its source again.
+     * </p>
+     * @param artifactCache the cache to use
+     */
+    public void setArtifactCache(@Nullable ArtifactCache artifactCache) {
+        this.artifactCache = artifactCache;
+    }
+
+    /**
+     * <p>Retrieve the cache used for artifact contents, if any.</p>
+     * @return the artifact cache, or empty if caching is disabled
+     */
+    public Optional<ArtifactCache> getArtifactCache() {
+        return Optional.ofNullable(artifactCache);
+    }
+
+    /**
+     * <p>
+     *     Set the cache used for parsed artifacts, or {@code null} to parse every artifact on each read again.
+     * </p>
+     * @param parsedArtifactCache the cache to use
+     */
+    public void setParsedArtifactCache(@Nullable ParsedArtifactCache parsedArtifactCache) {
+        this.parsedArtifactCache = parsedArtifactCache;
+    }
+
+    /**
+     * <p>Retrieve the cache used for parsed artifacts, if any.</p>
+     * @return the parsed artifact cache, or empty if caching is disabled
+     */
+    public Optional<ParsedArtifactCache> getParsedArtifactCache() {
+        return Optional.ofNullable(parsedArtifactCache);
+    }
+
+    /**
+     * <p>
+     *     Register a listener to be notified of the operations of this instance. Listeners registered for
+     *     {@link java.util.ServiceLoader} are registered on creation.
+     * </p>
+     * @param listener the listener to add
+     * @see TestingUtilsListener
+     */
+    public void addListener(TestingUtilsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * <p>Deregister a listener, if registered.</p>
+     * @param listener the listener to remove
+     */
+    public void removeListener(TestingUtilsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * <p>Retrieve the listeners registered on this instance.</p>
+     * @return an immutable snapshot of the listeners, in registration order
+     */
+    public List<TestingUtilsListener> getListeners() {
+        return listeners.get();
+    }
+
+    @Override
+    public String readString(String testCase, String artifactType, String artifactName) {
+        ArtifactReadEvent event = new ArtifactReadEvent();
+        event.begin();
+        long start = listeners.start();
+
+        ArtifactKey key = new ArtifactKey(getSuite(), testCase, artifactType, artifactName);
+        byte[] cached = artifactCache != null ? artifactCache.getCached(key) : null;
+        ByteBuffer mapped = cached == null ? mapArtifact(key) : null;
+
+        if (mapped != null) {
+            int size = mapped.remaining();
+            String content = StandardCharsets.UTF_8.decode(mapped).toString();
+            event.commit(key, size, true);
+            listeners.fireRead(this, key, size, true, start);
+            return content;
+        }
+
+        byte[] bytes = cached != null ? cached : readArtifactBytes(testCase, artifactType, artifactName);
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        event.commit(key, bytes.length, false);
+        listeners.fireRead(this, key, bytes.length, false, start);
+        return content;
+    }
+
+    /**
+     * <p>Like {@link #readString(String, String, String)}, but with the given read mode.</p>
+     * @param testCase the test case, used in the path
+     * @param artifactType the artifact type
+     * @param artifactName the filename of the artifact to read
+     * @param readMode how to read the artifact
+     * @return String representation of the read resource
+     */
+    public String readString(String testCase, String artifactType, String artifactName, ReadMode readMode) {
+        return withReadMode(readMode, () -> readString(testCase, artifactType, artifactName));
+    }
+
+    @Override
+    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        long start = listeners.start();
+
+        T result = parseArtifact(testCase, artifactType, artifactName, returnObjectType);
+
+        event.commitRead(this, returnObjectType, testCase, artifactName);
+        listeners.fireParse(this, returnObjectType, testCase, artifactType, artifactName, start);
+        return result;
+    }
+
+    @Override
+    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        long start = listeners.start();
+
+        T result = parseArtifact(testCase, artifactType, artifactName, returnObjectType);
+
+        event.commitRead(this, returnObjectType.getType(), testCase, artifactName);
+        listeners.fireParse(this, returnObjectType.getType(), testCase, artifactType, artifactName, start);
+        return result;
+    }
+
+    @Override
+    public <T> T jsonToObject(String jsonContent, Class<T> returnObjectType) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        long start = listeners.start();
+
+        T result = parseJson(jsonContent, returnObjectType);
+
+        event.commitFromJson(this, returnObjectType, jsonContent);
+        listeners.fireParse(this, returnObjectType, jsonContent, start);
+        return result;
+    }
+
+    @Override
+    public <T> T jsonToObject(String jsonContent, TypeRef<T> returnObjectType) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        long start = listeners.start();
+
+        T result = parseJson(jsonContent, returnObjectType);
+
+        event.commitFromJson(this, returnObjectType.getType(), jsonContent);
+        listeners.fireParse(this, returnObjectType.getType(), jsonContent, start);
+        return result;
+    }
+
+    @Override
+    public String objectToJson(Object object) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        long start = listeners.start();
+
+        String json = serialize(object);
+
+        event.commitToJson(this, object, json);
+        listeners.fireSerialize(this, object, json, start);
+        return json;
+    }
+
+    /**
+     * <p>Like {@link #readObject(String, String, String, Class)}, but with the given read mode.</p>
+     * @param testCase the test case, used in the path
+     * @param artifactType the artifact type
+     * @param artifactName the filename of the artifact to read
+     * @param returnObjectType the return type
+     * @param readMode how to read the artifact
+     * @return an object created from the resource file
+     * @param <T> the return type
+     */
+    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType, ReadMode readMode) {
+        return withReadMode(readMode, () -> readObject(testCase, artifactType, artifactName, returnObjectType));
+    }
+
+    /**
+     * <p>Like {@link #readObject(String, String, String, TypeRef)}, but with the given read mode.</p>
+     * @param testCase the test case, used in the path
+     * @param artifactType the artifact type
+     * @param artifactName the filename of the artifact to read
+     * @param returnObjectType the return type
+     * @param readMode how to read the artifact
+     * @return an object created from the resource file
+     * @param <T> the return type
+     */
+    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType, ReadMode readMode) {
+        return withReadMode(readMode, () -> readObject(testCase, artifactType, artifactName, returnObjectType));
+    }
+
+    /**
+     * <p>
+     *     Compares the actual object to the expected artifact via {@link #matchesExpectedTree} first, and only falls
+     *     back to {@link JSONAssert} - serializing the actual object and parsing both sides again - if the trees do not
+     *     match, to produce the verdict and failure message.
+     * </p>
+     */
+    @Override
+    public void assertObject(String testCase, String expectedArtifactName, Object actualObject, JSONCompareMode mode) {
+        AssertionEvent event = new AssertionEvent();
+        event.begin();
+        long start = listeners.start();
+        boolean passed = false;
+
+        try {
+            if (!matchesExpectedTree(testCase, expectedArtifactName, actualObject, mode)) {
+                TestingUtils.super.assertObject(testCase, expectedArtifactName, actualObject, mode);
+            }
+
+            passed = true;
+        } finally {
+            event.commit(this, testCase, expectedArtifactName, mode, false, passed);
+            listeners.fireAssert(this, testCase, expectedArtifactName, mode, false, passed, start);
+        }
+    }
+
+    /**
+     * <p>
+     *     Like {@link #assertObjectStreaming(String, String, Iterable, JSONCompareMode, int)}, stopping after
+     *     {@link #DEFAULT_MAX_MISMATCHES} mismatches.
+     * </p>
+     * @param testCase the test case, used in the path
+     * @param expectedArtifactName the filename of the expected artifact, which must contain a JSON array
+     * @param actualElements the actual elements to compare to the expected array
+     * @param mode the comparison mode, which must have strict order
+     */
+    public void assertObjectStreaming(String testCase, String expectedArtifactName, Iterable<?> actualElements, JSONCompareMode mode) {
+        assertObjectStreaming(testCase, expectedArtifactName, actualElements, mode, DEFAULT_MAX_MISMATCHES);
+    }
+
+    /**
+     * <p>
+     *     Asserts that the actual elements are equal to the JSON array of the given expected artifact, comparing them
+     *     element by element while the expected artifact is parsed, rather than as a whole - see
+     *     {@link StreamingArrayComparator}.
+     * </p>
+     * <p>
+     *     Meant for very large arrays: neither the expected nor the actual array is held in memory as a whole, and
+     *     failing assertions stop after the given number of mismatches. Elements are serialized one at a time, so
+     *     large actual results can also be produced lazily, e.g. by passing {@code stream::iterator}. Only modes with
+     *     strict order ({@link JSONCompareMode#STRICT}, {@link JSONCompareMode#STRICT_ORDER}) are supported.
+     * </p>
+     * <p>
+     *     Implementations that do not support streaming comparison - see {@link #elementReader()} - collect the actual
+     *     elements and fall back to {@link #assertObject(String, String, Object, JSONCompareMode)}.
+     * </p>
+     * @param testCase the test case, used in the path
+     * @param expectedArtifactName the filename of the expected artifact, which must contain a JSON array
+     * @param actualElements the actual elements to compare to the expected array
+     * @param mode the comparison mode, which must have strict order
+     * @param maxMismatches the number of mismatches after which to stop comparing
+     * @throws IllegalArgumentException if the mode does not have strict order, or the expected artifact is not an array
+     */
+    public void assertObjectStreaming(String testCase, String expectedArtifactName, Iterable<?> actualElements, JSONCompareMode mode, int maxMismatches) {
+        if (!mode.hasStrictOrder()) {
+            throw new IllegalArgumentException("Streaming comparison requires a mode with strict order: " + mode);
+        }
+
+        ElementReader<?> reader = elementReader();
+
+        if (reader == null) {
+            List<@Nullable Object> elements = new ArrayList<>();
+            actualElements.forEach(elements::add);
+            assertObject(testCase, expectedArtifactName, elements, mode);
+            return;
+        }
+
+        AssertionEvent event = new AssertionEvent();
+        event.begin();
+        long start = listeners.start();
+        boolean passed = false;
+
+        try {
+            List<String> mismatches = compareElements(reader, testCase, expectedArtifactName, actualElements, mode, maxMismatches);
+
+            if (!mismatches.isEmpty()) {
+                throw new AssertionError(String.join("\n", mismatches));
+            }
+
+            passed = true;
+        } finally {
+            event.commit(this, testCase, expectedArtifactName, mode, true, passed);
+            listeners.fireAssert(this, testCase, expectedArtifactName, mode, true, passed, start);
+        }
+    }
+
+    // --
+
+    /**
+     * <p>The listeners of this instance, to be notified by implementations of the operations they perform.</p>
+     * @return the listeners
+     */
+    protected TestingUtilsListeners listeners() {
+        return listeners;
+    }
+
+    /**
+     * <p>
+     *     Parse the given artifact of the current suite into an object, as done by
+     *     {@link #readObject(String, String, String, Class)}.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @param returnObjectType the return type
+     * @return the parsed object
+     * @throws UnsupportedOperationException unless overridden
+     * @param <T> the return type
+     */
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+        throw notImplemented("parseArtifact");
+    }
+
+    /**
+     * <p>
+     *     Parse the given artifact of the current suite into an object, as done by
+     *     {@link #readObject(String, String, String, TypeRef)}.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @param returnObjectType the return type
+     * @return the parsed object
+     * @throws UnsupportedOperationException unless overridden
+     * @param <T> the return type
+     */
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+        throw notImplemented("parseArtifact");
+    }
+
+    /**
+     * <p>Parse the given JSON content into an object, as done by {@link #jsonToObject(String, Class)}.</p>
+     * @param jsonContent the JSON content
+     * @param returnObjectType the return type
+     * @return the parsed object
+     * @throws UnsupportedOperationException unless overridden
+     * @param <T> the return type
+     */
+    protected <T> T parseJson(String jsonContent, Class<T> returnObjectType) {
+        throw notImplemented("parseJson");
+    }
+
+    /**
+     * <p>Parse the given JSON content into an object, as done by {@link #jsonToObject(String, TypeRef)}.</p>
+     * @param jsonContent the JSON content
+     * @param returnObjectType the return type
+     * @return the parsed object
+     * @throws UnsupportedOperationException unless overridden
+     * @param <T> the return type
+     */
+    protected <T> T parseJson(String jsonContent, TypeRef<T> returnObjectType) {
+        throw notImplemented("parseJson");
+    }
+
+    /**
+     * <p>Serialize the given object into JSON, as done by {@link #objectToJson(Object)}.</p>
+     * @param object the object
+     * @return the JSON content
+     * @throws UnsupportedOperationException unless overridden
+     */
+    protected String serialize(Object object) {
+        throw notImplemented("serialize");
+    }
+
+    /**
+     * <p>
+     *     How this implementation reads array elements for {@link #assertObjectStreaming}, or {@code null} if it does
+     *     not support streaming comparison. Returns {@code null} by default.
+     * </p>
+     * @return the element reader, or {@code null}
+     */
+    @Nullable
+    protected ElementReader<?> elementReader() {
+        return null;
+    }
+
+    /**
+     * <p>
+     *     Whether the actual object matches the given expected artifact in the given mode, compared as trees of the
+     *     underlying library - see {@link com.purepigeon.test.utils.compare.JsonTreeComparator}.
+     * </p>
+     * <p>
+     *     A positive result passes the assertion, while a negative one leaves the verdict to {@link JSONAssert}, so
+     *     implementations may return {@code false} whenever a tree comparison is not possible. Returns {@code false}
+     *     by default.
+     * </p>
+     * @param testCase the test case
+     * @param expectedArtifactName the filename of the expected artifact
+     * @param actualObject the actual object
+     * @param mode the comparison mode
+     * @return {@code true} if the actual object matches the expected artifact
+     */
+    protected boolean matchesExpectedTree(String testCase, String expectedArtifactName, Object actualObject, JSONCompareMode mode) {
+        return false;
+    }
+
+    /**
+     * <p>
+     *     Read the raw contents of the given artifact of the current suite, served from the {@link ArtifactCache} if
+     *     one is set.
+     * </p>
+     * <p>
+     *     The returned array may be shared with the cache, and must not be modified.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @return the contents of the artifact
+     */
+    protected byte[] readArtifactBytes(String testCase, String artifactType, String artifactName) {
+        ArtifactKey key = new ArtifactKey(getSuite(), testCase, artifactType, artifactName);
+
+        if (artifactCache == null) {
+            return loadArtifactBytes(key);
+        }
+
+        return artifactCache.get(key, this::loadArtifactBytes);
+    }
+
+    /**
+     * <p>
+     *     Parse the given artifact of the current suite directly from its contents, without materializing them as a
+     *     string first. Artifacts selected for memory mapping are parsed from the mapped contents; otherwise, if an
+     *     {@link ArtifactCache} is set, the contents are served from it, or streamed from the artifact's source.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @param parser function to parse the artifact contents
+     * @return the parsed artifact
+     * @param <T> the result type
+     */
+    @SneakyThrows
+    protected <T> T readArtifact(String testCase, String artifactType, String artifactName, ArtifactParser<? extends T> parser) {
+        ArtifactReadEvent event = new ArtifactReadEvent();
+        event.begin();
+        long start = listeners.start();
+
+        ArtifactKey key = new ArtifactKey(getSuite(), testCase, artifactType, artifactName);
+        // cached contents are served without touching the source, not even to check whether to map them
+        byte[] cached = artifactCache != null ? artifactCache.getCached(key) : null;
+        ByteBuffer mapped = cached == null ? mapArtifact(key) : null;
+
+        if (mapped != null) {
+            int size = mapped.remaining();
+            T result = parser.parse(new ByteBufferInputStream(mapped));
+            event.commit(key, size, true);
+            listeners.fireRead(this, key, size, true, start);
+            return result;
+        }
+
+        if (artifactCache != null) {
+            byte[] bytes = cached != null ? cached : artifactCache.get(key, this::loadArtifactBytes);
+            T result = parser.parse(new ByteArrayInputStream(bytes));
+            event.commit(key, bytes.length, false);
+            listeners.fireRead(this, key, bytes.length, false, start);
+            return result;
+        }
+
+        try (CountingInputStream content = new CountingInputStream(getArtifactSource().open(key), copiedBytes)) {
+            T result = parser.parse(content);
+            event.commit(key, content.total, false);
+            listeners.fireRead(this, key, content.total, false, start);
+            return result;
+        }
+    }
+
+    /**
+     * <p>
+     *     Whether reads of the given type should go through {@link #readArtifactTree}, i.e. a
+     *     {@link ParsedArtifactCache} is set and the type has not been excluded from it.
+     * </p>
+     * @param type the type to be read
+     * @return {@code true} if parsed artifacts of the given type should be cached
+     */
+    protected boolean usesParsedArtifactCache(Type type) {
+        return parsedArtifactCache != null && !parsedArtifactCache.isExcluded(type);
+    }
+
+    /**
+     * <p>
+     *     Read the given artifact of the current suite as a tree, served from the {@link ParsedArtifactCache} if one
+     *     is set.
+     * </p>
+     * <p>
+     *     The returned tree may be shared with the cache, so it must not be modified or handed out - implementations
+     *     are expected to map it to a new object for every read.
+     * </p>
+     * @param testCase the test case
+     * @param artifactType the artifact type
+     * @param artifactName the artifact name
+     * @param treeType the type of tree produced by {@code parser}
+     * @param parser function to parse the artifact contents into a tree
+     * @return the parsed tree
+     * @param <N> the type of tree
+     */
+    protected <N> N readArtifactTree(String testCase, String artifactType, String artifactName, Class<N> treeType, ArtifactParser<? extends N> parser) {
+        if (parsedArtifactCache == null) {
+            return readArtifact(testCase, artifactType, artifactName, parser);
+        }
+
+        ParsedArtifactCache.Key key = new ParsedArtifactCache.Key(new ArtifactKey(getSuite(), testCase, artifactType, artifactName), treeType);
+        ParsedArtifactCache.Tree tree = parsedArtifactCache.get(key, k -> readArtifact(testCase, artifactType, artifactName, content -> {
+            // the tree is weighed by the bytes it was parsed from
+            CountingInputStream counting = new CountingInputStream(content, new LongAdder());
+            N parsed = parser.parse(counting);
+            return new ParsedArtifactCache.Tree(parsed, counting.total);
+        }));
+
+        return treeType.cast(tree.value());
+    }
+
+    private <N> List<String> compareElements(ElementReader<N> reader, String testCase, String expectedArtifactName, Iterable<?> actualElements, JSONCompareMode mode, int maxMismatches) {
+        StreamingArrayComparator<N> comparator = new StreamingArrayComparator<>(reader.model(), mode, maxMismatches);
+
+        return readArtifact(testCase, DefaultArtifactType.EXPECTED, expectedArtifactName, content -> {
+            Iterator<N> expected = reader.expectedElements().parse(content);
+
+            if (expected == null) {
+                throw new IllegalArgumentException("Expected artifact is not a JSON array: " + expectedArtifactName);
+            }
+
+            Iterator<?> actual = actualElements.iterator();
+
+            return comparator.compare(expected, new Iterator<N>() {
+                @Override
+                public boolean hasNext() {
+                    return actual.hasNext();
+                }
+
+                @Override
+                public N next() {
+                    return reader.actualElement().apply(actual.next());
+                }
+            });
+        });
+    }
+
+    @SneakyThrows
+    private byte[] loadArtifactBytes(ArtifactKey key) {
+        byte[] content = getArtifactSource().readAllBytes(key);
+        copiedBytes.add(content.length);
+        return content;
+    }
+
+    @Nullable
+    @SneakyThrows
+    private ByteBuffer mapArtifact(ArtifactKey key) {
+        ReadMode mode = Objects.requireNonNullElse(readModeOverride.get(), readMode);
+
+        if (mode == ReadMode.COPY || mode == ReadMode.AUTO && getArtifactSource().size(key) < mappedReadThreshold) {
+            return null;
+        }
+
+        ByteBuffer mapped = getArtifactSource().map(key).orElse(null);
+
+        if (mapped != null) {
+            mappedBytes.add(mapped.remaining());
+        }
+
+        return mapped;
+    }
+
+    private <T> T withReadMode(ReadMode mode, Supplier<T> read) {
+        ReadMode previous = readModeOverride.get();
+        readModeOverride.set(mode);
+
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                readModeOverride.remove();
+            } else {
+                readModeOverride.set(previous);
+            }
+        }
+    }
+
+    private UnsupportedOperationException notImplemented(String hook) {
+        return new UnsupportedOperationException("%s does not implement %s".formatted(getClass().getName(), hook));
+    }
+
+    /**
+     * <p>Parses artifact contents, as used by {@link #readArtifact} and {@link #readArtifactTree}.</p>
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    protected interface ArtifactParser<T> {
+
+        /**
+         * <p>Parse the given artifact contents. The stream is closed by the caller.</p>
+         * @param content the artifact contents
+         * @return the parsed artifact
+         * @throws IOException if the contents cannot be read or parsed
+         */
+        T parse(InputStream content) throws IOException;
+    }
+
+    /**
+     * <p>Reads array elements for {@link #assertObjectStreaming} as trees of the underlying library.</p>
+     * @param model the tree model
+     * @param expectedElements parses the elements of the expected artifact lazily, one per
+     *                         {@link Iterator#next()}, or returns {@code null} if the artifact is not a JSON array
+     * @param actualElement converts an actual element, which may be {@code null}, to a tree
+     * @param <N> the node type of the tree model
+     */
+    protected record ElementReader<N>(
+        JsonTreeModel<N> model,
+        ArtifactParser<@Nullable Iterator<N>> expectedElements,
+        Function<@Nullable Object, N> actualElement
+    ) {
+        /**
+         * <p>Construct a new element reader.</p>
+         * @param model the tree model
+         * @param expectedElements parses the elements of the expected artifact lazily
+         * @param actualElement converts an actual element to a tree
+         */
+        public ElementReader {
+            // public, so that implementations in other packages can construct it
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder count;
+
+        private long total;
+
+        private CountingInputStream(InputStream in, LongAdder count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+
+            if (read != -1) {
+                count.increment();
+                total++;
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+
+            if (read > 0) {
+                count.add(read);
+                total += read;
+            }
+
+            return read;
+        }
     }
 }
@@ -21,16 +21,31 @@ package com.purepigeon.test.utils.impl.gson;
  */
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.purepigeon.test.utils.DefaultArtifactType;
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.compare.JsonTreeComparator;
 import com.purepigeon.test.utils.impl.AbstractTestingUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * <p>
@@ -46,34 +61,84 @@ public class GsonTestingUtils extends AbstractTestingUtils {
     private final Gson gson;
 
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return gson.fromJson(Files.readString(jsonPath), returnObjectType);
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+        return readsViaTree(returnObjectType)
+            ? gson.fromJson(readTree(testCase, artifactType, artifactName), returnObjectType)
+            : readArtifact(testCase, artifactType, artifactName, content -> gson.fromJson(reader(content), returnObjectType));
     }
 
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return gson.fromJson(Files.readString(jsonPath), returnObjectType.getType());
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+        return readsViaTree(returnObjectType.getType())
+            ? gson.fromJson(readTree(testCase, artifactType, artifactName), returnObjectType.getType())
+            : readArtifact(testCase, artifactType, artifactName, content -> gson.fromJson(reader(content), returnObjectType.getType()));
     }
 
     @Override
-    @SneakyThrows
-    public <T> T jsonToObject(String jsonContent, Class<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, Class<T> returnObjectType) {
         return gson.fromJson(jsonContent, returnObjectType);
     }
 
     @Override
-    @SneakyThrows
-    public <T> T jsonToObject(String jsonContent, TypeRef<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, TypeRef<T> returnObjectType) {
         return gson.fromJson(jsonContent, returnObjectType.getType());
     }
 
     @Override
-    @SneakyThrows
-    public String objectToJson(Object object) {
+    protected String serialize(Object object) {
         return gson.toJson(object);
     }
+
+    @Override
+    protected boolean matchesExpectedTree(String testCase, String expectedArtifactName, Object actualObject, JSONCompareMode mode) {
+        JsonElement expected = readTree(testCase, DefaultArtifactType.EXPECTED, expectedArtifactName);
+        return JsonTreeComparator.matches(GsonTreeModel.INSTANCE, expected, gson.toJsonTree(actualObject), mode);
+    }
+
+    @Override
+    protected ElementReader<JsonElement> elementReader() {
+        return new ElementReader<>(GsonTreeModel.INSTANCE, GsonTestingUtils::readElements, gson::toJsonTree);
+    }
+
+    // --
+
+    private boolean readsViaTree(Type type) {
+        // reading a tree type from a cached tree would hand out the cached tree itself
+        return usesParsedArtifactCache(type) && !(type instanceof Class<?> clazz && JsonElement.class.isAssignableFrom(clazz));
+    }
+
+    private static @Nullable Iterator<JsonElement> readElements(InputStream content) throws IOException {
+        JsonReader reader = new JsonReader(reader(content));
+
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            return null;
+        }
+
+        reader.beginArray();
+
+        return new Iterator<>() {
+            @Override
+            @SneakyThrows
+            public boolean hasNext() {
+                return reader.hasNext();
+            }
+
+            @Override
+            public JsonElement next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return JsonParser.parseReader(reader);
+            }
+        };
+    }
+
+    private JsonElement readTree(String testCase, String artifactType, String artifactName) {
+        return readArtifactTree(testCase, artifactType, artifactName, JsonElement.class, content -> JsonParser.parseReader(reader(content)));
+    }
+
+    private static Reader reader(InputStream content) {
+        return new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,110 @@
+package com.purepigeon.test.utils.impl.gson;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.purepigeon.test.utils.compare.JsonTreeModel;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * <p>{@link JsonTreeModel} of Gson's {@link JsonElement}.</p>
+ */
+@NullMarked
+final class GsonTreeModel implements JsonTreeModel<JsonElement> {
+
+    static final GsonTreeModel INSTANCE = new GsonTreeModel();
+
+    private GsonTreeModel() {
+    }
+
+    @Override
+    public Kind kind(JsonElement node) {
+        if (node.isJsonObject()) {
+            return Kind.OBJECT;
+        } else if (node.isJsonArray()) {
+            return Kind.ARRAY;
+        } else if (node.isJsonNull()) {
+            return Kind.NULL;
+        }
+
+        JsonPrimitive primitive = node.getAsJsonPrimitive();
+
+        if (primitive.isString()) {
+            return Kind.STRING;
+        } else if (primitive.isNumber()) {
+            return Kind.NUMBER;
+        } else {
+            return Kind.BOOLEAN;
+        }
+    }
+
+    @Override
+    public Collection<String> fieldNames(JsonElement object) {
+        return object.getAsJsonObject().keySet();
+    }
+
+    @Override
+    public @Nullable JsonElement field(JsonElement object, String fieldName) {
+        return object.getAsJsonObject().get(fieldName);
+    }
+
+    @Override
+    public int size(JsonElement array) {
+        return array.getAsJsonArray().size();
+    }
+
+    @Override
+    public JsonElement element(JsonElement array, int index) {
+        return array.getAsJsonArray().get(index);
+    }
+
+    @Override
+    public String stringValue(JsonElement node) {
+        return node.getAsString();
+    }
+
+    @Override
+    public boolean booleanValue(JsonElement node) {
+        return node.getAsBoolean();
+    }
+
+    @Override
+    public double doubleValue(JsonElement node) {
+        return node.getAsDouble();
+    }
+
+    @Override
+    public boolean isIntegral(JsonElement node) {
+        // numbers are either parsed lazily or held as created, so judge by how they are written
+        String number = node.getAsString();
+        return number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0;
+    }
+
+    @Override
+    public BigInteger integralValue(JsonElement node) {
+        return node.getAsBigInteger();
+    }
+}
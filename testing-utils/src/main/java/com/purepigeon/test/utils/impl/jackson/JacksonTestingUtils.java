@@ -20,17 +20,30 @@ package com.purepigeon.test.utils.impl.jackson;
  * #L%
  */
 
+import com.purepigeon.test.utils.DefaultArtifactType;
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.compare.JsonTreeComparator;
 import com.purepigeon.test.utils.impl.AbstractTestingUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.TreeNode;
+import tools.jackson.core.util.JsonParserDelegate;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.MissingNode;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * <p>
@@ -46,34 +59,132 @@ public class JacksonTestingUtils extends AbstractTestingUtils {
     private final ObjectMapper objectMapper;
 
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return objectMapper.readValue(Files.readString(jsonPath), returnObjectType);
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+        if (readsViaTree(returnObjectType)) {
+            ParsedTree tree = readTree(testCase, artifactType, artifactName);
+
+            if (tree.exact()) {
+                return objectMapper.treeToValue(tree.node(), returnObjectType);
+            }
+        }
+
+        return readArtifact(testCase, artifactType, artifactName, content -> objectMapper.readValue(content, returnObjectType));
     }
 
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return objectMapper.readValue(Files.readString(jsonPath), new JacksonTypeRefConnector<>(returnObjectType));
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+        if (readsViaTree(returnObjectType.getType())) {
+            ParsedTree tree = readTree(testCase, artifactType, artifactName);
+
+            if (tree.exact()) {
+                return objectMapper.treeToValue(tree.node(), new JacksonTypeRefConnector<>(returnObjectType));
+            }
+        }
+
+        return readArtifact(testCase, artifactType, artifactName, content -> objectMapper.readValue(content, new JacksonTypeRefConnector<>(returnObjectType)));
     }
 
     @Override
     @SneakyThrows
-    public <T> T jsonToObject(String jsonContent, Class<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, Class<T> returnObjectType) {
         return objectMapper.readValue(jsonContent, returnObjectType);
     }
 
     @Override
     @SneakyThrows
-    public <T> T jsonToObject(String jsonContent, TypeRef<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, TypeRef<T> returnObjectType) {
         return objectMapper.readValue(jsonContent, new JacksonTypeRefConnector<>(returnObjectType));
     }
 
     @Override
     @SneakyThrows
-    public String objectToJson(Object object) {
+    protected String serialize(Object object) {
         return objectMapper.writeValueAsString(object);
     }
+
+    @Override
+    protected boolean matchesExpectedTree(String testCase, String expectedArtifactName, Object actualObject, JSONCompareMode mode) {
+        JsonNode expected = readTree(testCase, DefaultArtifactType.EXPECTED, expectedArtifactName).node();
+        return JsonTreeComparator.matches(JacksonTreeModel.INSTANCE, expected, objectMapper.valueToTree(actualObject), mode);
+    }
+
+    @Override
+    protected ElementReader<JsonNode> elementReader() {
+        return new ElementReader<>(JacksonTreeModel.INSTANCE, this::readElements, element -> element == null
+            ? objectMapper.getNodeFactory().nullNode()
+            : objectMapper.valueToTree(element));
+    }
+
+    // --
+
+    private boolean readsViaTree(Type type) {
+        // reading a tree type from a cached tree would hand out the cached tree itself
+        return usesParsedArtifactCache(type) && !(type instanceof Class<?> clazz && TreeNode.class.isAssignableFrom(clazz));
+    }
+
+    private @Nullable Iterator<JsonNode> readElements(InputStream content) {
+        JsonParser parser = objectMapper.createParser(content);
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            return null;
+        }
+
+        return new Iterator<>() {
+            private JsonToken next = parser.nextToken();
+
+            @Override
+            public boolean hasNext() {
+                return next != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                JsonNode element = parser.readValueAsTree();
+                next = parser.nextToken();
+                return element;
+            }
+        };
+    }
+
+    private ParsedTree readTree(String testCase, String artifactType, String artifactName) {
+        return readArtifactTree(testCase, artifactType, artifactName, ParsedTree.class, this::parseTree);
+    }
+
+    private ParsedTree parseTree(InputStream content) {
+        try (FloatTrackingParser parser = new FloatTrackingParser(objectMapper.createParser(content))) {
+            JsonNode node = objectMapper.readTree(parser);
+            // like readTree(InputStream), represent empty content as a missing node
+            return new ParsedTree(node != null ? node : MissingNode.getInstance(), parser.exact);
+        }
+    }
+
+    /**
+     * <p>
+     *     A parsed artifact, and whether all of its floating point numbers are exactly represented by the doubles
+     *     they were parsed into. Otherwise, the tree would lose precision or scale when mapped to e.g. a
+     *     {@link java.math.BigDecimal}, so the artifact is mapped from its contents instead.
+     * </p>
+     */
+    private record ParsedTree(JsonNode node, boolean exact) {
+    }
+
+    private static final class FloatTrackingParser extends JsonParserDelegate {
+
+        private boolean exact = true;
+
+        private FloatTrackingParser(JsonParser parser) {
+            super(parser);
+        }
+
+        @Override
+        public double getDoubleValue() {
+            double value = super.getDoubleValue();
+            exact &= Double.isFinite(value) && new BigDecimal(getString()).equals(BigDecimal.valueOf(value));
+            return value;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.purepigeon.test.utils.impl.jackson;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.compare.JsonTreeModel;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * <p>{@link JsonTreeModel} of Jackson's {@link JsonNode}.</p>
+ */
+@NullMarked
+final class JacksonTreeModel implements JsonTreeModel<JsonNode> {
+
+    static final JacksonTreeModel INSTANCE = new JacksonTreeModel();
+
+    private JacksonTreeModel() {
+    }
+
+    @Override
+    public Kind kind(JsonNode node) {
+        return switch (node.getNodeType()) {
+            case OBJECT -> Kind.OBJECT;
+            case ARRAY -> Kind.ARRAY;
+            case STRING -> Kind.STRING;
+            case NUMBER -> Kind.NUMBER;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case NULL -> Kind.NULL;
+            default -> Kind.OTHER;
+        };
+    }
+
+    @Override
+    public Collection<String> fieldNames(JsonNode object) {
+        return object.propertyNames();
+    }
+
+    @Override
+    public @Nullable JsonNode field(JsonNode object, String fieldName) {
+        return object.get(fieldName);
+    }
+
+    @Override
+    public int size(JsonNode array) {
+        return array.size();
+    }
+
+    @Override
+    public JsonNode element(JsonNode array, int index) {
+        return array.get(index);
+    }
+
+    @Override
+    public String stringValue(JsonNode node) {
+        return node.stringValue();
+    }
+
+    @Override
+    public boolean booleanValue(JsonNode node) {
+        return node.booleanValue();
+    }
+
+    @Override
+    public double doubleValue(JsonNode node) {
+        return node.doubleValue();
+    }
+
+    @Override
+    public boolean isIntegral(JsonNode node) {
+        return node.isIntegralNumber();
+    }
+
+    @Override
+    public BigInteger integralValue(JsonNode node) {
+        return node.bigIntegerValue();
+    }
+}
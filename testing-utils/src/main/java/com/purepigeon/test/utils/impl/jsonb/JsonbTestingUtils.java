@@ -20,23 +20,39 @@ package com.purepigeon.test.utils.impl.jsonb;
  * #L%
  */
 
+import com.purepigeon.test.utils.DefaultArtifactType;
 import com.purepigeon.test.utils.TestingUtils;
 import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.compare.JsonTreeComparator;
 import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import jakarta.json.JsonValue;
 import jakarta.json.bind.Jsonb;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * <p>
  *     Implementation of {@link TestingUtils} that uses the Jakarta {@link Jsonb} for serialization and
  *     deserialization.
  * </p>
+ * <p>
+ *     {@link Jsonb} cannot map objects from a parsed tree, so this implementation does not use a
+ *     {@link com.purepigeon.test.utils.artifact.ParsedArtifactCache}; reads are still served from an
+ *     {@link com.purepigeon.test.utils.artifact.ArtifactCache}, if set.
+ * </p>
+ * <p>
+ *     For the same reason, assertions serialize the actual object once and compare it as a JSON-P tree.
+ * </p>
  */
 @NullMarked
 @RequiredArgsConstructor
@@ -45,32 +61,75 @@ public class JsonbTestingUtils extends AbstractTestingUtils {
     @NonNull
     private final Jsonb jsonb;
 
+    private final JsonProvider jsonProvider = JsonProvider.provider();
+
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return jsonb.fromJson(Files.readString(jsonPath), returnObjectType);
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+        return readArtifact(testCase, artifactType, artifactName, content -> jsonb.fromJson(content, returnObjectType));
     }
 
     @Override
-    @SneakyThrows
-    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
-        Path jsonPath = getArtifactPath(getSuite(), testCase, artifactType, artifactName);
-        return jsonb.fromJson(Files.readString(jsonPath), returnObjectType.getType());
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+        return readArtifact(testCase, artifactType, artifactName, content -> jsonb.fromJson(content, returnObjectType.getType()));
     }
 
     @Override
-    public <T> T jsonToObject(String jsonContent, Class<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, Class<T> returnObjectType) {
         return jsonb.fromJson(jsonContent, returnObjectType);
     }
 
     @Override
-    public <T> T jsonToObject(String jsonContent, TypeRef<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, TypeRef<T> returnObjectType) {
         return jsonb.fromJson(jsonContent, returnObjectType.getType());
     }
 
     @Override
-    public String objectToJson(Object object) {
+    protected String serialize(Object object) {
         return jsonb.toJson(object);
     }
+
+    @Override
+    protected ElementReader<JsonValue> elementReader() {
+        return new ElementReader<>(JsonpTreeModel.INSTANCE, this::readElements, this::toTree);
+    }
+
+    @Override
+    protected boolean matchesExpectedTree(String testCase, String expectedArtifactName, Object actualObject, JSONCompareMode mode) {
+        JsonValue expected = readArtifact(testCase, DefaultArtifactType.EXPECTED, expectedArtifactName, content -> jsonProvider.createReader(content).readValue());
+        return JsonTreeComparator.matches(JsonpTreeModel.INSTANCE, expected, toTree(actualObject), mode);
+    }
+
+    // --
+
+    private JsonValue toTree(@Nullable Object object) {
+        return object == null ? JsonValue.NULL : jsonProvider.createReader(new StringReader(jsonb.toJson(object))).readValue();
+    }
+
+    private @Nullable Iterator<JsonValue> readElements(InputStream content) {
+        JsonParser parser = jsonProvider.createParser(content);
+
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+            return null;
+        }
+
+        return new Iterator<>() {
+            private JsonParser.Event next = parser.next();
+
+            @Override
+            public boolean hasNext() {
+                return next != JsonParser.Event.END_ARRAY;
+            }
+
+            @Override
+            public JsonValue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                JsonValue element = parser.getValue();
+                next = parser.next();
+                return element;
+            }
+        };
+    }
 }
@@ -0,0 +1,100 @@
+package com.purepigeon.test.utils.impl.jsonb;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.compare.JsonTreeModel;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * <p>{@link JsonTreeModel} of JSON-P's {@link JsonValue}.</p>
+ */
+@NullMarked
+final class JsonpTreeModel implements JsonTreeModel<JsonValue> {
+
+    static final JsonpTreeModel INSTANCE = new JsonpTreeModel();
+
+    private JsonpTreeModel() {
+    }
+
+    @Override
+    public Kind kind(JsonValue node) {
+        return switch (node.getValueType()) {
+            case OBJECT -> Kind.OBJECT;
+            case ARRAY -> Kind.ARRAY;
+            case STRING -> Kind.STRING;
+            case NUMBER -> Kind.NUMBER;
+            case TRUE, FALSE -> Kind.BOOLEAN;
+            case NULL -> Kind.NULL;
+        };
+    }
+
+    @Override
+    public Collection<String> fieldNames(JsonValue object) {
+        return object.asJsonObject().keySet();
+    }
+
+    @Override
+    public @Nullable JsonValue field(JsonValue object, String fieldName) {
+        return object.asJsonObject().get(fieldName);
+    }
+
+    @Override
+    public int size(JsonValue array) {
+        return array.asJsonArray().size();
+    }
+
+    @Override
+    public JsonValue element(JsonValue array, int index) {
+        return array.asJsonArray().get(index);
+    }
+
+    @Override
+    public String stringValue(JsonValue node) {
+        return ((JsonString) node).getString();
+    }
+
+    @Override
+    public boolean booleanValue(JsonValue node) {
+        return node.getValueType() == JsonValue.ValueType.TRUE;
+    }
+
+    @Override
+    public double doubleValue(JsonValue node) {
+        return ((JsonNumber) node).doubleValue();
+    }
+
+    @Override
+    public boolean isIntegral(JsonValue node) {
+        return ((JsonNumber) node).isIntegral();
+    }
+
+    @Override
+    public BigInteger integralValue(JsonValue node) {
+        return ((JsonNumber) node).bigIntegerValueExact();
+    }
+}
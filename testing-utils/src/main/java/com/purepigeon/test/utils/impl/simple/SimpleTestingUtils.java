@@ -42,27 +42,27 @@ public class SimpleTestingUtils extends AbstractTestingUtils {
     private static final String UNSUPPORTED_MESSAGE = "%s does not support methods that map to / from POJOs".formatted(SimpleTestingUtils.class.getSimpleName());
 
     @Override
-    public <T> T readObject(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, Class<T> returnObjectType) {
         throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
     }
 
     @Override
-    public <T> T readObject(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
+    protected <T> T parseArtifact(String testCase, String artifactType, String artifactName, TypeRef<T> returnObjectType) {
         throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
     }
 
     @Override
-    public <T> T jsonToObject(String jsonContent, Class<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, Class<T> returnObjectType) {
         throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
     }
 
     @Override
-    public <T> T jsonToObject(String jsonContent, TypeRef<T> returnObjectType) {
+    protected <T> T parseJson(String jsonContent, TypeRef<T> returnObjectType) {
         throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
     }
 
     @Override
-    public String objectToJson(Object object) {
+    protected String serialize(Object object) {
         throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
     }
 }
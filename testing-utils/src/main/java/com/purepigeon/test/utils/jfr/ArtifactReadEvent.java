@@ -0,0 +1,95 @@
+package com.purepigeon.test.utils.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>
+ *     JFR event for reading a test artifact, emitted by {@code readString} and by every read that parses an artifact,
+ *     e.g. {@code readObject}. Reads that stream the artifact into a parser include the time spent parsing.
+ * </p>
+ */
+@NullMarked
+@Name(ArtifactReadEvent.NAME)
+@Label("Artifact Read")
+@Category(TestingUtilsEvents.CATEGORY)
+@Description("Read of a test artifact, including parsing if the artifact is streamed into a parser")
+@StackTrace(false)
+public final class ArtifactReadEvent extends Event {
+
+    /**
+     * <p>The name of the event type.</p>
+     */
+    public static final String NAME = "com.purepigeon.test.utils.ArtifactRead";
+
+    @Label("Suite")
+    @Nullable
+    String suite;
+
+    @Label("Test Case")
+    @Nullable
+    String testCase;
+
+    @Label("Artifact Type")
+    @Nullable
+    String artifactType;
+
+    @Label("Artifact Name")
+    @Nullable
+    String artifactName;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Memory Mapped")
+    boolean mapped;
+
+    /**
+     * <p>End the event and commit it, if enabled.</p>
+     * @param key the artifact read
+     * @param size the number of bytes read
+     * @param mapped whether the artifact was memory mapped
+     */
+    public void commit(ArtifactKey key, long size, boolean mapped) {
+        end();
+
+        if (shouldCommit()) {
+            this.suite = key.suite();
+            this.testCase = key.testCase();
+            this.artifactType = key.artifactType();
+            this.artifactName = key.artifactName();
+            this.size = size;
+            this.mapped = mapped;
+            commit();
+        }
+    }
+}
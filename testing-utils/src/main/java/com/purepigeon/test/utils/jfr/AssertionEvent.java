@@ -0,0 +1,102 @@
+package com.purepigeon.test.utils.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+/**
+ * <p>
+ *     JFR event for comparing an object to an expected artifact, i.e. {@code assertObject} and
+ *     {@code assertObjectStreaming}. Failed assertions are committed as well.
+ * </p>
+ */
+@NullMarked
+@Name(AssertionEvent.NAME)
+@Label("Assertion")
+@Category(TestingUtilsEvents.CATEGORY)
+@Description("Comparison of an object to an expected artifact")
+@StackTrace(false)
+public final class AssertionEvent extends Event {
+
+    /**
+     * <p>The name of the event type.</p>
+     */
+    public static final String NAME = "com.purepigeon.test.utils.Assertion";
+
+    @Label("Backend")
+    @Nullable
+    String backend;
+
+    @Label("Suite")
+    @Nullable
+    String suite;
+
+    @Label("Test Case")
+    @Nullable
+    String testCase;
+
+    @Label("Artifact Name")
+    @Nullable
+    String artifactName;
+
+    @Label("Compare Mode")
+    @Nullable
+    String mode;
+
+    @Label("Streaming")
+    boolean streaming;
+
+    @Label("Passed")
+    boolean passed;
+
+    /**
+     * <p>End the event and commit it, if enabled.</p>
+     * @param backend the backend
+     * @param testCase the test case of the expected artifact
+     * @param artifactName the name of the expected artifact
+     * @param mode the comparison mode
+     * @param streaming whether the elements were compared one by one
+     * @param passed whether the assertion passed
+     */
+    public void commit(TestingUtils backend, String testCase, String artifactName, JSONCompareMode mode, boolean streaming, boolean passed) {
+        end();
+
+        if (shouldCommit()) {
+            this.backend = backend.getClass().getSimpleName();
+            this.suite = TestingUtilsEvents.suiteOf(backend);
+            this.testCase = testCase;
+            this.artifactName = artifactName;
+            this.mode = mode.name();
+            this.streaming = streaming;
+            this.passed = passed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.purepigeon.test.utils.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+
+/**
+ * <p>
+ *     JFR event for mapping between JSON and objects by a {@link TestingUtils} backend, i.e. {@code readObject},
+ *     {@code jsonToObject} and {@code objectToJson}.
+ * </p>
+ * <p>
+ *     Events of {@code readObject} enclose the {@link ArtifactReadEvent} of the artifact read, which carries its size.
+ *     Other events carry the length of the JSON content instead, and the suite and test case of the
+ *     {@link TestContext} bound to the thread, if any.
+ * </p>
+ */
+@NullMarked
+@Name(MappingEvent.NAME)
+@Label("Mapping")
+@Category(TestingUtilsEvents.CATEGORY)
+@Description("Mapping between JSON and objects by a TestingUtils backend")
+@StackTrace(false)
+public final class MappingEvent extends Event {
+
+    /**
+     * <p>The name of the event type.</p>
+     */
+    public static final String NAME = "com.purepigeon.test.utils.Mapping";
+
+    /**
+     * <p>The operation of {@code readObject} events.</p>
+     */
+    public static final String READ_OBJECT = "readObject";
+
+    /**
+     * <p>The operation of {@code jsonToObject} events.</p>
+     */
+    public static final String JSON_TO_OBJECT = "jsonToObject";
+
+    /**
+     * <p>The operation of {@code objectToJson} events.</p>
+     */
+    public static final String OBJECT_TO_JSON = "objectToJson";
+
+    @Label("Operation")
+    @Nullable
+    String operation;
+
+    @Label("Backend")
+    @Nullable
+    String backend;
+
+    @Label("Type")
+    @Nullable
+    String type;
+
+    @Label("Suite")
+    @Nullable
+    String suite;
+
+    @Label("Test Case")
+    @Nullable
+    String testCase;
+
+    @Label("Artifact Name")
+    @Nullable
+    String artifactName;
+
+    @Label("JSON Length")
+    @DataAmount
+    long size;
+
+    /**
+     * <p>End a {@code readObject} event and commit it, if enabled.</p>
+     * @param backend the backend
+     * @param type the type read
+     * @param testCase the test case of the artifact
+     * @param artifactName the name of the artifact
+     */
+    public void commitRead(TestingUtils backend, Type type, String testCase, String artifactName) {
+        end();
+
+        if (shouldCommit()) {
+            this.operation = READ_OBJECT;
+            this.backend = backend.getClass().getSimpleName();
+            this.type = type.getTypeName();
+            this.suite = TestingUtilsEvents.suiteOf(backend);
+            this.testCase = testCase;
+            this.artifactName = artifactName;
+            commit();
+        }
+    }
+
+    /**
+     * <p>End a {@code jsonToObject} event and commit it, if enabled.</p>
+     * @param backend the backend
+     * @param type the type read
+     * @param json the JSON content read
+     */
+    public void commitFromJson(TestingUtils backend, Type type, String json) {
+        end();
+
+        if (shouldCommit()) {
+            commitConversion(JSON_TO_OBJECT, backend, type.getTypeName(), json);
+        }
+    }
+
+    /**
+     * <p>End an {@code objectToJson} event and commit it, if enabled.</p>
+     * @param backend the backend
+     * @param object the object written
+     * @param json the JSON content written
+     */
+    public void commitToJson(TestingUtils backend, @Nullable Object object, String json) {
+        end();
+
+        if (shouldCommit()) {
+            commitConversion(OBJECT_TO_JSON, backend, object == null ? null : object.getClass().getTypeName(), json);
+        }
+    }
+
+    // --
+
+    private void commitConversion(String operation, TestingUtils backend, @Nullable String type, String json) {
+        this.operation = operation;
+        this.backend = backend.getClass().getSimpleName();
+        this.type = type;
+        this.size = json.length();
+
+        TestContextHolder.current().ifPresent(context -> {
+            this.suite = context.suite();
+            this.testCase = context.testCase();
+        });
+
+        commit();
+    }
+}
@@ -0,0 +1,63 @@
+package com.purepigeon.test.utils.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import jdk.jfr.Category;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>
+ *     The Java Flight Recorder events emitted by {@link TestingUtils}, which let time spent in fixture reads,
+ *     mapping and assertions be attributed to specific tests, artifacts and backends, e.g. in JDK Mission Control:
+ * </p>
+ * <ul>
+ *     <li>{@link ArtifactReadEvent} - reading an artifact</li>
+ *     <li>{@link MappingEvent} - {@code readObject}, {@code jsonToObject} and {@code objectToJson}</li>
+ *     <li>{@link AssertionEvent} - {@code assertObject} and {@code assertObjectStreaming}</li>
+ * </ul>
+ * <p>
+ *     All events are grouped under the {@value #CATEGORY} category, and are enabled by default. When no recording is
+ *     running, events are not populated, and cost little more than their allocation, which the JIT usually eliminates.
+ * </p>
+ */
+@NullMarked
+public final class TestingUtilsEvents {
+
+    /**
+     * <p>The JFR {@link Category} of all Testing Utils events.</p>
+     */
+    public static final String CATEGORY = "Testing Utils";
+
+    private TestingUtilsEvents() {
+    }
+
+    @Nullable
+    static String suiteOf(TestingUtils testingUtils) {
+        try {
+            return testingUtils.getSuite();
+        } catch (IllegalStateException e) {
+            // events must not fail the operation they record
+            return null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.purepigeon.test.utils.listener;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.lang.reflect.Type;
+import java.util.ServiceLoader;
+
+/**
+ * <p>
+ *     Receives timings and sizes of the operations of {@link TestingUtils} and the mock web server support, e.g. to
+ *     publish them as metrics. Every method has a no-op default, so implementations only override what they need.
+ * </p>
+ * <p>
+ *     Listeners are registered on {@link com.purepigeon.test.utils.impl.AbstractTestingUtils} instances, either
+ *     explicitly, as Spring beans picked up by the autoconfiguration, or by listing them in a
+ *     {@code META-INF/services/com.purepigeon.test.utils.listener.TestingUtilsListener} file for {@link ServiceLoader}
+ *     - in the latter case, they need a public no-arg constructor.
+ * </p>
+ * <p>
+ *     Callbacks are invoked synchronously on the thread performing the operation, after it completes, so they should
+ *     be cheap. Exceptions thrown by a listener are propagated to the caller of the operation. Durations are in
+ *     nanoseconds, and include nested operations - e.g. the duration of a parse includes the read of its artifact.
+ * </p>
+ * @see TestingUtilsListeners
+ */
+@NullMarked
+public interface TestingUtilsListener {
+
+    /**
+     * <p>Called after the contents of an artifact were read.</p>
+     * @param source the instance that read the artifact
+     * @param artifact the artifact read
+     * @param size the size of the artifact, in bytes
+     * @param mapped whether the artifact was memory mapped
+     * @param nanos the duration of the read
+     */
+    default void onRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long nanos) {
+    }
+
+    /**
+     * <p>
+     *     Called after JSON was parsed into an object, either from an artifact by {@code readObject}, or from a string
+     *     by {@code jsonToObject}.
+     * </p>
+     * @param source the instance that parsed the JSON
+     * @param type the type parsed
+     * @param artifact the artifact parsed, or {@code null} if parsed from a string
+     * @param length the length of the parsed string, or {@code -1} if parsed from an artifact - see
+     *     {@link #onRead} for its size
+     * @param nanos the duration of the parse
+     */
+    default void onParse(TestingUtils source, Type type, @Nullable ArtifactKey artifact, long length, long nanos) {
+    }
+
+    /**
+     * <p>Called after an object was serialized to JSON.</p>
+     * @param source the instance that serialized the object
+     * @param type the class of the object, or {@code null} if it was {@code null}
+     * @param length the length of the JSON produced
+     * @param nanos the duration of the serialization
+     */
+    default void onSerialize(TestingUtils source, @Nullable Class<?> type, long length, long nanos) {
+    }
+
+    /**
+     * <p>Called after an object was compared to an expected artifact, whether the assertion passed or not.</p>
+     * @param source the instance that asserted the object
+     * @param expected the expected artifact
+     * @param mode the comparison mode
+     * @param streaming whether the elements were compared one by one
+     * @param passed whether the assertion passed
+     * @param nanos the duration of the assertion
+     */
+    default void onAssert(TestingUtils source, ArtifactKey expected, JSONCompareMode mode, boolean streaming, boolean passed, long nanos) {
+    }
+
+    /**
+     * <p>
+     *     Called after an artifact was enqueued as a response of the mock web server. If the body of the response was
+     *     cached, the artifact was not read again, and {@link #onRead} is not called.
+     * </p>
+     * @param source the instance that read the artifact
+     * @param artifact the artifact enqueued
+     * @param status the status code of the response
+     * @param size the size of the response body, in bytes
+     * @param nanos the duration of reading and enqueueing the artifact
+     */
+    default void onEnqueue(TestingUtils source, ArtifactKey artifact, int status, long size, long nanos) {
+    }
+
+    /**
+     * <p>Called after waiting for a request received by the mock web server.</p>
+     * @param method the method of the request, or {@code null} if none was received in time
+     * @param target the target of the request, or {@code null} if none was received in time
+     * @param bodySize the size of the request body, or {@code -1} if none was received in time
+     * @param nanos the duration of the wait
+     */
+    default void onTakeRequest(@Nullable String method, @Nullable String target, long bodySize, long nanos) {
+    }
+}
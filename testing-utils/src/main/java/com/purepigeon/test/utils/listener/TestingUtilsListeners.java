@@ -0,0 +1,298 @@
+package com.purepigeon.test.utils.listener;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import lombok.NonNull;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * <p>
+ *     The {@link TestingUtilsListener listeners} of a single instance, and the means to notify them.
+ * </p>
+ * <p>
+ *     Notifying is meant to cost next to nothing while no listener is registered: operations take their start time
+ *     from {@link #start()}, which does not read the system timer then, and each {@code fire} method returns before
+ *     timing the operation or building its {@link ArtifactKey}, so that no allocation is made on behalf of listeners.
+ * </p>
+ * <p>
+ *     Instances are thread-safe. Registration is copy-on-write, as listeners are expected to be registered once and
+ *     notified many times.
+ * </p>
+ */
+@NullMarked
+public final class TestingUtilsListeners {
+
+    private static final TestingUtilsListener[] NONE = new TestingUtilsListener[0];
+
+    private volatile TestingUtilsListener[] listeners;
+
+    private TestingUtilsListeners(TestingUtilsListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * <p>Create an instance without listeners.</p>
+     * @return the new instance
+     */
+    public static TestingUtilsListeners empty() {
+        return new TestingUtilsListeners(NONE);
+    }
+
+    /**
+     * <p>
+     *     Create an instance with the listeners registered for {@link ServiceLoader}. Services are loaded once, so the
+     *     same listener instances are shared by all instances created this way.
+     * </p>
+     * @return the new instance
+     */
+    public static TestingUtilsListeners fromServices() {
+        return new TestingUtilsListeners(Services.LOADED);
+    }
+
+    /**
+     * <p>Register the given listener, unless it is already registered.</p>
+     * @param listener the listener to add
+     */
+    public synchronized void add(@NonNull TestingUtilsListener listener) {
+        if (indexOf(listener) >= 0) return;
+
+        TestingUtilsListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = listener;
+        listeners = added;
+    }
+
+    /**
+     * <p>Deregister the given listener, if registered.</p>
+     * @param listener the listener to remove
+     */
+    public synchronized void remove(TestingUtilsListener listener) {
+        int index = indexOf(listener);
+        if (index < 0) return;
+
+        TestingUtilsListener[] removed = new TestingUtilsListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, removed, 0, index);
+        System.arraycopy(listeners, index + 1, removed, index, removed.length - index);
+        listeners = removed;
+    }
+
+    /**
+     * <p>Retrieve the registered listeners, in registration order.</p>
+     * @return an immutable snapshot of the listeners
+     */
+    public List<TestingUtilsListener> get() {
+        return List.of(listeners);
+    }
+
+    /**
+     * <p>Check whether no listener is registered.</p>
+     * @return {@code true} if there are no listeners
+     */
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    /**
+     * <p>The start time to pass to the {@code fire} methods when an operation starts.</p>
+     * @return the current value of {@link System#nanoTime()}, or {@code 0} if there are no listeners
+     */
+    public long start() {
+        return listeners.length == 0 ? 0 : System.nanoTime();
+    }
+
+    /**
+     * <p>Notify the listeners of an artifact read - see {@link TestingUtilsListener#onRead}.</p>
+     * @param source the instance that read the artifact
+     * @param artifact the artifact read
+     * @param size the size of the artifact
+     * @param mapped whether the artifact was memory mapped
+     * @param start the start time of the read, from {@link #start()}
+     */
+    public void fireRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+
+        for (TestingUtilsListener listener : current) {
+            listener.onRead(source, artifact, size, mapped, nanos);
+        }
+    }
+
+    /**
+     * <p>
+     *     Notify the listeners of an artifact of the current suite parsed by {@code readObject} - see
+     *     {@link TestingUtilsListener#onParse}.
+     * </p>
+     * @param source the instance that parsed the artifact
+     * @param type the type parsed
+     * @param testCase the test case of the artifact
+     * @param artifactType the type of the artifact
+     * @param artifactName the name of the artifact
+     * @param start the start time of the parse, from {@link #start()}
+     */
+    public void fireParse(TestingUtils source, Type type, String testCase, String artifactType, String artifactName, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+        ArtifactKey artifact = new ArtifactKey(source.getSuite(), testCase, artifactType, artifactName);
+
+        for (TestingUtilsListener listener : current) {
+            listener.onParse(source, type, artifact, -1, nanos);
+        }
+    }
+
+    /**
+     * <p>
+     *     Notify the listeners of a string parsed by {@code jsonToObject} - see {@link TestingUtilsListener#onParse}.
+     * </p>
+     * @param source the instance that parsed the string
+     * @param type the type parsed
+     * @param json the string parsed
+     * @param start the start time of the parse, from {@link #start()}
+     */
+    public void fireParse(TestingUtils source, Type type, String json, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+
+        for (TestingUtilsListener listener : current) {
+            listener.onParse(source, type, null, json.length(), nanos);
+        }
+    }
+
+    /**
+     * <p>Notify the listeners of a serialization - see {@link TestingUtilsListener#onSerialize}.</p>
+     * @param source the instance that serialized the object
+     * @param object the object serialized
+     * @param json the JSON produced
+     * @param start the start time of the serialization, from {@link #start()}
+     */
+    public void fireSerialize(TestingUtils source, @Nullable Object object, String json, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+        Class<?> type = object == null ? null : object.getClass();
+
+        for (TestingUtilsListener listener : current) {
+            listener.onSerialize(source, type, json.length(), nanos);
+        }
+    }
+
+    /**
+     * <p>
+     *     Notify the listeners of an assertion against an expected artifact of the current suite - see
+     *     {@link TestingUtilsListener#onAssert}.
+     * </p>
+     * @param source the instance that asserted the object
+     * @param testCase the test case of the expected artifact
+     * @param expectedArtifactName the name of the expected artifact
+     * @param mode the comparison mode
+     * @param streaming whether the elements were compared one by one
+     * @param passed whether the assertion passed
+     * @param start the start time of the assertion, from {@link #start()}
+     */
+    public void fireAssert(TestingUtils source, String testCase, String expectedArtifactName, JSONCompareMode mode, boolean streaming, boolean passed, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+        ArtifactKey expected = new ArtifactKey(source.getSuite(), testCase, DefaultArtifactType.EXPECTED, expectedArtifactName);
+
+        for (TestingUtilsListener listener : current) {
+            listener.onAssert(source, expected, mode, streaming, passed, nanos);
+        }
+    }
+
+    /**
+     * <p>
+     *     Notify the listeners of an artifact of the current suite enqueued as a mock web server response - see
+     *     {@link TestingUtilsListener#onEnqueue}.
+     * </p>
+     * @param source the instance that read the artifact
+     * @param testCase the test case of the artifact
+     * @param artifactType the type of the artifact
+     * @param artifactName the name of the artifact
+     * @param status the status code of the response
+     * @param size the size of the response body, in bytes
+     * @param start the start time of the enqueue, from {@link #start()}
+     */
+    public void fireEnqueue(TestingUtils source, String testCase, String artifactType, String artifactName, int status, long size, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+        ArtifactKey artifact = new ArtifactKey(source.getSuite(), testCase, artifactType, artifactName);
+
+        for (TestingUtilsListener listener : current) {
+            listener.onEnqueue(source, artifact, status, size, nanos);
+        }
+    }
+
+    /**
+     * <p>Notify the listeners of a wait for a mock web server request - see {@link TestingUtilsListener#onTakeRequest}.</p>
+     * @param method the method of the request, or {@code null} if none was received in time
+     * @param target the target of the request, or {@code null} if none was received in time
+     * @param bodySize the size of the request body, or {@code -1} if none was received in time
+     * @param start the start time of the wait, from {@link #start()}
+     */
+    public void fireTakeRequest(@Nullable String method, @Nullable String target, long bodySize, long start) {
+        TestingUtilsListener[] current = listeners;
+        if (current.length == 0) return;
+
+        long nanos = System.nanoTime() - start;
+
+        for (TestingUtilsListener listener : current) {
+            listener.onTakeRequest(method, target, bodySize, nanos);
+        }
+    }
+
+    // --
+
+    private int indexOf(TestingUtilsListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) return i;
+        }
+
+        return -1;
+    }
+
+    private static final class Services {
+
+        private static final TestingUtilsListener[] LOADED = ServiceLoader
+            .load(TestingUtilsListener.class, TestingUtilsListener.class.getClassLoader())
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .toArray(TestingUtilsListener[]::new);
+    }
+}
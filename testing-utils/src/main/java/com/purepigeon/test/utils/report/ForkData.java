@@ -0,0 +1,135 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.report.PerformanceReport.Aggregate;
+import com.purepigeon.test.utils.report.PerformanceReport.ArtifactStats;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ *     Reads and writes the aggregate of a single fork of a {@link PerformanceReport}, which is merged with the ones of
+ *     the other forks writing to the same directory.
+ * </p>
+ * <p>
+ *     The files are tab separated, with a line per test case and per artifact. Tabs, line breaks and backslashes in
+ *     names are escaped.
+ * </p>
+ */
+@NullMarked
+final class ForkData {
+
+    private static final String TEST_CASE = "testCase";
+
+    private static final String ARTIFACT = "artifact";
+
+    private ForkData() {
+    }
+
+    static void write(Path file, Aggregate aggregate) throws IOException {
+        StringBuilder out = new StringBuilder();
+
+        aggregate.suites().forEach((suite, testCases) -> testCases.forEach((testCase, timings) -> {
+            out.append(TEST_CASE).append('\t').append(escape(suite)).append('\t').append(escape(testCase))
+                .append('\t').append(timings.tests)
+                .append('\t').append(timings.wallNanos)
+                .append('\t').append(timings.bytesRead)
+                .append('\t').append(timings.allocatedBytes);
+
+            for (Phase phase : Phase.values()) {
+                out.append('\t').append(timings.nanos(phase));
+            }
+
+            out.append('\n');
+        }));
+
+        aggregate.artifacts().forEach((artifact, stats) -> out.append(ARTIFACT).append('\t').append(escape(artifact))
+            .append('\t').append(stats.reads)
+            .append('\t').append(stats.nanos)
+            .append('\t').append(stats.bytes)
+            .append('\n'));
+
+        Files.writeString(file, out, StandardCharsets.UTF_8);
+    }
+
+    static void read(Path file, Aggregate into) throws IOException {
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", -1);
+
+            if (TEST_CASE.equals(fields[0]) && fields.length == 7 + Phase.values().length) {
+                Timings timings = into.suites()
+                    .computeIfAbsent(unescape(fields[1]), suite -> new TreeMap<>())
+                    .computeIfAbsent(unescape(fields[2]), testCase -> new Timings());
+
+                timings.tests += Integer.parseInt(fields[3]);
+                timings.wallNanos += Long.parseLong(fields[4]);
+                timings.bytesRead += Long.parseLong(fields[5]);
+                timings.allocatedBytes += Long.parseLong(fields[6]);
+
+                for (Phase phase : Phase.values()) {
+                    timings.add(phase, Long.parseLong(fields[7 + phase.ordinal()]));
+                }
+            } else if (ARTIFACT.equals(fields[0]) && fields.length == 5) {
+                ArtifactStats stats = into.artifacts().computeIfAbsent(unescape(fields[1]), artifact -> new ArtifactStats());
+
+                stats.reads += Integer.parseInt(fields[2]);
+                stats.nanos += Long.parseLong(fields[3]);
+                stats.bytes += Long.parseLong(fields[4]);
+            } else {
+                throw new IOException("Unexpected line in " + file + ": " + line);
+            }
+        }
+    }
+
+    // --
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c != '\\' || i + 1 == value.length()) {
+                unescaped.append(c);
+                continue;
+            }
+
+            switch (value.charAt(++i)) {
+                case 't' -> unescaped.append('\t');
+                case 'n' -> unescaped.append('\n');
+                case 'r' -> unescaped.append('\r');
+                default -> unescaped.append(value.charAt(i));
+            }
+        }
+
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,398 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.jfr.ArtifactReadEvent;
+import com.purepigeon.test.utils.jfr.AssertionEvent;
+import com.purepigeon.test.utils.jfr.MappingEvent;
+import com.purepigeon.test.utils.jfr.TestingUtilsEvents;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Collects the time tests spend in {@link TestingUtils} while they run, and writes an aggregated report of it when
+ *     closed - see {@link #close()}.
+ * </p>
+ * <p>
+ *     The time of each test case is split into the {@link Phase phases} of artifact I/O, deserialization,
+ *     serialization, comparison and mock web server wait, based on the JFR events listed in
+ *     {@link TestingUtilsEvents}, which the report consumes from an in-process recording stream. Phases do not
+ *     overlap: time spent in nested operations, such as reading the expected artifact of an assertion, is counted for
+ *     the nested operation only. Reads that stream an artifact into a parser count as I/O. The bytes read, and the wall
+ *     time and the bytes allocated by the thread executing each test - see {@link #startTest(String, String)} - are
+ *     collected as well.
+ * </p>
+ * <p>
+ *     Enabled by the {@value #ENABLED_PARAMETER} JUnit configuration parameter, e.g. in
+ *     {@code junit-platform.properties}, in which case {@link com.purepigeon.test.utils.extension.TestingUtilsExtension}
+ *     starts a single report per run, and writes it to the {@value #DIRECTORY_PARAMETER} directory - by default,
+ *     {@value #DEFAULT_DIRECTORY} - at the end of the run.
+ * </p>
+ * <p>
+ *     Test JVMs forked by the build tool can share the directory: each report writes the data of its own fork to a
+ *     file named after its fork id - see {@value #FORK_ID_PARAMETER} - and merges the data of all forks found in the
+ *     directory into the report files. As data of previous runs is merged as well, the directory should be cleaned
+ *     between runs, which {@code mvn clean} does for the default one.
+ * </p>
+ */
+@NullMarked
+public final class PerformanceReport implements AutoCloseable {
+
+    /**
+     * <p>The JUnit configuration parameter that enables the report.</p>
+     */
+    public static final String ENABLED_PARAMETER = "testing-utils.report.enabled";
+
+    /**
+     * <p>The JUnit configuration parameter of the directory to write the report to.</p>
+     */
+    public static final String DIRECTORY_PARAMETER = "testing-utils.report.directory";
+
+    /**
+     * <p>The directory to write the report to, unless configured otherwise.</p>
+     */
+    public static final String DEFAULT_DIRECTORY = "target/testing-utils-report";
+
+    /**
+     * <p>
+     *     The JUnit configuration parameter of the id of the fork, e.g. {@code ${surefire.forkNumber}} as a system
+     *     property of the fork. Defaults to the process id.
+     * </p>
+     */
+    public static final String FORK_ID_PARAMETER = "testing-utils.report.fork-id";
+
+    /**
+     * <p>The file name of the JSON report.</p>
+     */
+    public static final String JSON_FILE_NAME = "testing-utils-report.json";
+
+    /**
+     * <p>The file name of the HTML report.</p>
+     */
+    public static final String HTML_FILE_NAME = "testing-utils-report.html";
+
+    // emitted by testing-utils-mockwebserver, which this module does not depend on
+    private static final String TAKE_REQUEST_EVENT = "com.purepigeon.test.utils.mockwebserver.TakeRequest";
+
+    private static final String UNATTRIBUTED = "(unattributed)";
+
+    private static final String FORK_FILE_PREFIX = "testing-utils-report-";
+
+    private static final String FORK_FILE_SUFFIX = ".tsv";
+
+    private static final String LOCK_FILE_NAME = "testing-utils-report.lock";
+
+    private final Path directory;
+
+    private final String forkId;
+
+    private final RecordingStream stream = new RecordingStream();
+
+    private final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    private final Map<TestKey, Timings> runs = new ConcurrentHashMap<>();
+
+    private PerformanceReport(Path directory, String forkId) {
+        this.directory = directory;
+        this.forkId = forkId;
+    }
+
+    /**
+     * <p>Start collecting a report of the current process, to be written to the given directory when closed.</p>
+     * @param directory the directory to write the report to
+     * @return the report
+     */
+    public static PerformanceReport start(Path directory) {
+        return start(directory, String.valueOf(ProcessHandle.current().pid()));
+    }
+
+    /**
+     * <p>Start collecting a report of the given fork, to be written to the given directory when closed.</p>
+     * @param directory the directory to write the report to
+     * @param forkId the id of the fork, unique among the forks writing to the directory
+     * @return the report
+     * @throws IllegalArgumentException if the fork id is not made up of letters, digits, dots, dashes and underscores
+     */
+    public static PerformanceReport start(Path directory, String forkId) {
+        if (!forkId.matches("[\\w.-]+")) {
+            throw new IllegalArgumentException("Invalid fork id: '" + forkId + "'");
+        }
+
+        PerformanceReport report = new PerformanceReport(directory, forkId);
+        report.subscribe();
+        return report;
+    }
+
+    /**
+     * <p>
+     *     Start measuring the wall time of a test, and the bytes allocated by the current thread, which is expected to
+     *     execute it.
+     * </p>
+     * @param suite the suite of the test
+     * @param testCase the test case of the test
+     * @return the measurement, to be finished on the same thread when the test ends
+     */
+    public TestRun startTest(String suite, String testCase) {
+        return new TestRun(new TestKey(suite, testCase), System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * <p>
+     *     Stop collecting, write the data of this fork to its directory, and merge the data of all forks in it into
+     *     {@value #JSON_FILE_NAME} and {@value #HTML_FILE_NAME}. The report ranks the slowest suites, test cases and
+     *     artifacts by the time spent in {@link TestingUtils}.
+     * </p>
+     * <p>
+     *     Forks closing at the same time take turns via a file lock, so that the last one to close merges the data of
+     *     all of them.
+     * </p>
+     * @throws UncheckedIOException if the report cannot be written
+     */
+    @Override
+    public void close() {
+        stream.stop();
+        stream.close();
+
+        try {
+            Files.createDirectories(directory);
+
+            try (FileChannel lockFile = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockFile.lock()) {
+                ForkData.write(directory.resolve(FORK_FILE_PREFIX + forkId + FORK_FILE_SUFFIX), aggregate());
+                ReportWriter.write(directory, mergeForks());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the Testing Utils report to " + directory, e);
+        }
+    }
+
+    // --
+
+    private void subscribe() {
+        stream.enable(ArtifactReadEvent.NAME).withoutStackTrace();
+        stream.enable(MappingEvent.NAME).withoutStackTrace();
+        stream.enable(AssertionEvent.NAME).withoutStackTrace();
+        stream.enable(TAKE_REQUEST_EVENT).withoutStackTrace();
+
+        stream.onEvent(ArtifactReadEvent.NAME, event -> samples.add(Sample.of(event, Phase.IO, artifactPath(event), event.getLong("size"))));
+        stream.onEvent(MappingEvent.NAME, event -> samples.add(Sample.of(event, mappingPhase(event), null, 0)));
+        stream.onEvent(AssertionEvent.NAME, event -> samples.add(Sample.of(event, Phase.COMPARISON, null, 0)));
+        stream.onEvent(TAKE_REQUEST_EVENT, event -> samples.add(Sample.of(event, Phase.MOCK_SERVER_WAIT, null, 0)));
+
+        stream.startAsync();
+    }
+
+    private Aggregate aggregate() {
+        Map<TestKey, Timings> testCases = new HashMap<>();
+        Map<String, ArtifactStats> artifacts = new HashMap<>();
+
+        for (List<Sample> thread : samples.stream().collect(Collectors.groupingBy(Sample::threadId)).values()) {
+            exclusiveNanos(thread).forEach((sample, nanos) -> {
+                Timings timings = testCases.computeIfAbsent(sample.testKey(), key -> new Timings());
+                timings.add(sample.phase(), nanos);
+                timings.bytesRead += sample.bytes();
+            });
+        }
+
+        for (Sample sample : samples) {
+            if (sample.artifact() != null) {
+                artifacts.computeIfAbsent(sample.artifact(), key -> new ArtifactStats()).add(sample);
+            }
+        }
+
+        runs.forEach((key, run) -> testCases.computeIfAbsent(key, k -> new Timings()).add(run));
+
+        Map<String, Map<String, Timings>> suites = new TreeMap<>();
+        testCases.forEach((key, timings) -> suites.computeIfAbsent(key.suite(), suite -> new TreeMap<>()).put(key.testCase(), timings));
+
+        return new Aggregate(suites, artifacts);
+    }
+
+    private Aggregate mergeForks() throws IOException {
+        Aggregate merged = new Aggregate(new TreeMap<>(), new HashMap<>());
+
+        try (DirectoryStream<Path> forks = Files.newDirectoryStream(directory, FORK_FILE_PREFIX + "*" + FORK_FILE_SUFFIX)) {
+            for (Path fork : forks) {
+                ForkData.read(fork, merged);
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * <p>
+     *     The time of each sample, excluding the time of samples nested in it. Samples of a single thread are either
+     *     nested or disjoint, as events are committed in the order their operations end.
+     * </p>
+     */
+    private static Map<Sample, Long> exclusiveNanos(List<Sample> thread) {
+        List<Sample> ordered = new ArrayList<>(thread);
+        ordered.sort(Comparator.comparingLong(Sample::startNanos).thenComparing(Comparator.comparingLong(Sample::endNanos).reversed()));
+
+        Map<Sample, Long> exclusive = new IdentityHashMap<>();
+        Deque<Sample> enclosing = new ArrayDeque<>();
+
+        for (Sample sample : ordered) {
+            while (!enclosing.isEmpty() && enclosing.peek().endNanos() <= sample.startNanos()) {
+                enclosing.pop();
+            }
+
+            if (!enclosing.isEmpty()) {
+                exclusive.merge(enclosing.peek(), -sample.durationNanos(), Long::sum);
+            }
+
+            exclusive.merge(sample, sample.durationNanos(), Long::sum);
+            enclosing.push(sample);
+        }
+
+        exclusive.replaceAll((sample, nanos) -> Math.max(0, nanos));
+        return exclusive;
+    }
+
+    private void record(TestKey key, long wallNanos, long allocatedBytes) {
+        runs.compute(key, (k, timings) -> {
+            Timings updated = timings != null ? timings : new Timings();
+            updated.wallNanos += wallNanos;
+            updated.allocatedBytes += allocatedBytes;
+            updated.tests++;
+            return updated;
+        });
+    }
+
+    private static long allocatedBytes() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()
+            ? threads.getCurrentThreadAllocatedBytes()
+            : 0;
+    }
+
+    private static Phase mappingPhase(RecordedEvent event) {
+        return MappingEvent.OBJECT_TO_JSON.equals(event.getString("operation")) ? Phase.SERIALIZATION : Phase.DESERIALIZATION;
+    }
+
+    private static String artifactPath(RecordedEvent event) {
+        return event.getString("suite") + '/' + event.getString("testCase") + '/' + event.getString("artifactType") + '/' + event.getString("artifactName");
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * <p>The measurement of a single test - see {@link #startTest(String, String)}.</p>
+     */
+    public final class TestRun {
+
+        private final TestKey key;
+
+        private final long startNanos;
+
+        private final long startAllocatedBytes;
+
+        private TestRun(TestKey key, long startNanos, long startAllocatedBytes) {
+            this.key = key;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * <p>Finish the measurement, and add it to the report.</p>
+         */
+        public void finish() {
+            record(key, System.nanoTime() - startNanos, Math.max(0, allocatedBytes() - startAllocatedBytes));
+        }
+    }
+
+    record TestKey(String suite, String testCase) {
+    }
+
+    record Aggregate(Map<String, Map<String, Timings>> suites, Map<String, ArtifactStats> artifacts) {
+    }
+
+    static final class ArtifactStats {
+
+        int reads;
+
+        long nanos;
+
+        long bytes;
+
+        private void add(Sample sample) {
+            reads++;
+            nanos += sample.durationNanos();
+            bytes += sample.bytes();
+        }
+    }
+
+    private record Sample(long threadId, long startNanos, long endNanos, Phase phase, TestKey testKey, @Nullable String artifact, long bytes) {
+
+        private static Sample of(RecordedEvent event, Phase phase, @Nullable String artifact, long bytes) {
+            RecordedThread thread = event.getThread();
+
+            return new Sample(
+                thread != null ? thread.getId() : -1,
+                epochNanos(event.getStartTime()),
+                epochNanos(event.getEndTime()),
+                phase,
+                new TestKey(orUnattributed(event.getString("suite")), orUnattributed(event.getString("testCase"))),
+                artifact,
+                bytes
+            );
+        }
+
+        private long durationNanos() {
+            return endNanos - startNanos;
+        }
+
+        private static String orUnattributed(@Nullable String value) {
+            return value != null ? value : UNATTRIBUTED;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>The phases test time is split into by {@link PerformanceReport}.</p>
+ */
+@NullMarked
+enum Phase {
+
+    /**
+     * <p>Reading artifacts, including parsing artifacts that are streamed into a parser.</p>
+     */
+    IO("io"),
+
+    /**
+     * <p>Mapping JSON to objects, i.e. {@code readObject} and {@code jsonToObject}.</p>
+     */
+    DESERIALIZATION("deserialization"),
+
+    /**
+     * <p>Mapping objects to JSON, i.e. {@code objectToJson}.</p>
+     */
+    SERIALIZATION("serialization"),
+
+    /**
+     * <p>Comparing objects to expected artifacts, i.e. {@code assertObject}.</p>
+     */
+    COMPARISON("comparison"),
+
+    /**
+     * <p>Waiting for requests received by the mock web server.</p>
+     */
+    MOCK_SERVER_WAIT("mockServerWait");
+
+    final String key;
+
+    Phase(String key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,264 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.report.PerformanceReport.Aggregate;
+import com.purepigeon.test.utils.report.PerformanceReport.ArtifactStats;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>Writes the JSON and HTML files of a {@link PerformanceReport}.</p>
+ */
+@NullMarked
+final class ReportWriter {
+
+    /**
+     * <p>The number of entries in the rankings of the slowest test cases and artifacts.</p>
+     */
+    static final int RANK_LIMIT = 20;
+
+    private ReportWriter() {
+    }
+
+    static void write(Path directory, Aggregate aggregate) throws IOException {
+        List<SuiteEntry> suites = suites(aggregate);
+        List<TestCaseEntry> testCases = slowestTestCases(suites);
+        List<Map.Entry<String, ArtifactStats>> artifacts = slowestArtifacts(aggregate);
+
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(PerformanceReport.JSON_FILE_NAME), json(suites, testCases, artifacts), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve(PerformanceReport.HTML_FILE_NAME), html(suites, testCases, artifacts), StandardCharsets.UTF_8);
+    }
+
+    // --
+
+    private static List<SuiteEntry> suites(Aggregate aggregate) {
+        return aggregate.suites().entrySet().stream()
+            .map(suite -> {
+                Timings timings = new Timings();
+                List<TestCaseEntry> testCases = suite.getValue().entrySet().stream()
+                    .map(testCase -> new TestCaseEntry(suite.getKey(), testCase.getKey(), testCase.getValue()))
+                    .sorted(TestCaseEntry.SLOWEST_FIRST)
+                    .toList();
+
+                testCases.forEach(testCase -> timings.add(testCase.timings()));
+                return new SuiteEntry(suite.getKey(), timings, testCases);
+            })
+            .sorted(Comparator.comparingLong((SuiteEntry suite) -> suite.timings().totalNanos()).reversed())
+            .toList();
+    }
+
+    private static List<TestCaseEntry> slowestTestCases(List<SuiteEntry> suites) {
+        return suites.stream()
+            .flatMap(suite -> suite.testCases().stream())
+            .sorted(TestCaseEntry.SLOWEST_FIRST)
+            .limit(RANK_LIMIT)
+            .toList();
+    }
+
+    private static List<Map.Entry<String, ArtifactStats>> slowestArtifacts(Aggregate aggregate) {
+        return aggregate.artifacts().entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, ArtifactStats> artifact) -> artifact.getValue().nanos).reversed())
+            .limit(RANK_LIMIT)
+            .toList();
+    }
+
+    private static String json(List<SuiteEntry> suites, List<TestCaseEntry> testCases, List<Map.Entry<String, ArtifactStats>> artifacts) {
+        Timings totals = new Timings();
+        suites.forEach(suite -> totals.add(suite.timings()));
+
+        StringBuilder json = new StringBuilder("{\n  \"totals\": ");
+        timings(json, totals);
+
+        json.append(",\n  \"suites\": [");
+        join(json, suites, (out, suite) -> {
+            out.append("\n    {\"suite\": ").append(quote(suite.suite())).append(", \"timings\": ");
+            timings(out, suite.timings());
+            out.append(", \"testCases\": [");
+            join(out, suite.testCases(), (inner, testCase) -> {
+                inner.append("\n      {\"testCase\": ").append(quote(testCase.testCase())).append(", \"timings\": ");
+                timings(inner, testCase.timings());
+                inner.append('}');
+            });
+            out.append("]}");
+        });
+
+        json.append("],\n  \"slowestTestCases\": [");
+        join(json, testCases, (out, testCase) -> {
+            out.append("\n    {\"suite\": ").append(quote(testCase.suite()))
+                .append(", \"testCase\": ").append(quote(testCase.testCase()))
+                .append(", \"timings\": ");
+            timings(out, testCase.timings());
+            out.append('}');
+        });
+
+        json.append("],\n  \"slowestArtifacts\": [");
+        join(json, artifacts, (out, artifact) -> out.append("\n    {\"artifact\": ").append(quote(artifact.getKey()))
+            .append(", \"reads\": ").append(artifact.getValue().reads)
+            .append(", \"nanos\": ").append(artifact.getValue().nanos)
+            .append(", \"bytes\": ").append(artifact.getValue().bytes)
+            .append('}'));
+
+        return json.append("]\n}\n").toString();
+    }
+
+    private static void timings(StringBuilder json, Timings timings) {
+        json.append("{\"tests\": ").append(timings.tests)
+            .append(", \"wallNanos\": ").append(timings.wallNanos)
+            .append(", \"totalNanos\": ").append(timings.totalNanos());
+
+        for (Phase phase : Phase.values()) {
+            json.append(", \"").append(phase.key).append("Nanos\": ").append(timings.nanos(phase));
+        }
+
+        json.append(", \"bytesRead\": ").append(timings.bytesRead)
+            .append(", \"allocatedBytes\": ").append(timings.allocatedBytes)
+            .append('}');
+    }
+
+    private static String html(List<SuiteEntry> suites, List<TestCaseEntry> testCases, List<Map.Entry<String, ArtifactStats>> artifacts) {
+        StringBuilder html = new StringBuilder("""
+            <!DOCTYPE html>
+            <html>
+            <head>
+            <meta charset="UTF-8">
+            <title>Testing Utils Report</title>
+            <style>
+            body { font-family: sans-serif; }
+            table { border-collapse: collapse; margin-bottom: 2em; }
+            th, td { border: 1px solid #ccc; padding: 4px 8px; }
+            td.number { text-align: right; }
+            </style>
+            </head>
+            <body>
+            <h1>Testing Utils Report</h1>
+            """);
+
+        html.append("<h2>Slowest suites</h2>\n<table>\n");
+        timingsHeader(html, "Suite");
+        suites.forEach(suite -> timingsRow(html, escape(suite.suite()), suite.timings()));
+        html.append("</table>\n");
+
+        html.append("<h2>Slowest test cases</h2>\n<table>\n");
+        timingsHeader(html, "Test case");
+        testCases.forEach(testCase -> timingsRow(html, escape(testCase.suite()) + " / " + escape(testCase.testCase()), testCase.timings()));
+        html.append("</table>\n");
+
+        html.append("<h2>Slowest artifacts</h2>\n<table>\n<tr><th>Artifact</th><th>Reads</th><th>I/O (ms)</th><th>Bytes</th></tr>\n");
+        artifacts.forEach(artifact -> html.append("<tr><td>").append(escape(artifact.getKey())).append("</td>")
+            .append(cell(artifact.getValue().reads))
+            .append(cell(millis(artifact.getValue().nanos)))
+            .append(cell(artifact.getValue().bytes))
+            .append("</tr>\n"));
+        html.append("</table>\n");
+
+        return html.append("</body>\n</html>\n").toString();
+    }
+
+    private static void timingsHeader(StringBuilder html, String name) {
+        html.append("<tr><th>").append(name).append("</th><th>Tests</th><th>Wall (ms)</th><th>Total (ms)</th>");
+
+        for (Phase phase : Phase.values()) {
+            html.append("<th>").append(phase.key).append(" (ms)</th>");
+        }
+
+        html.append("<th>Bytes read</th><th>Bytes allocated</th></tr>\n");
+    }
+
+    private static void timingsRow(StringBuilder html, String name, Timings timings) {
+        html.append("<tr><td>").append(name).append("</td>")
+            .append(cell(timings.tests))
+            .append(cell(millis(timings.wallNanos)))
+            .append(cell(millis(timings.totalNanos())));
+
+        for (Phase phase : Phase.values()) {
+            html.append(cell(millis(timings.nanos(phase))));
+        }
+
+        html.append(cell(timings.bytesRead))
+            .append(cell(timings.allocatedBytes))
+            .append("</tr>\n");
+    }
+
+    private static String cell(Object value) {
+        return "<td class=\"number\">" + value + "</td>";
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static <T> void join(StringBuilder out, List<T> elements, ElementWriter<T> writer) {
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) out.append(',');
+            writer.write(out, elements.get(i));
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    @FunctionalInterface
+    private interface ElementWriter<T> {
+        void write(StringBuilder out, T element);
+    }
+
+    private record SuiteEntry(String suite, Timings timings, List<TestCaseEntry> testCases) {
+    }
+
+    private record TestCaseEntry(String suite, String testCase, Timings timings) {
+
+        private static final Comparator<TestCaseEntry> SLOWEST_FIRST = Comparator.comparingLong((TestCaseEntry testCase) -> testCase.timings().totalNanos()).reversed();
+    }
+}
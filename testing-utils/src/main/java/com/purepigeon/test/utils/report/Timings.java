@@ -0,0 +1,72 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>Accumulated timings of a test case, a suite, or a whole run. Not thread-safe.</p>
+ */
+@NullMarked
+final class Timings {
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    long bytesRead;
+
+    long allocatedBytes;
+
+    long wallNanos;
+
+    int tests;
+
+    void add(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    void add(Timings other) {
+        for (Phase phase : Phase.values()) {
+            phaseNanos[phase.ordinal()] += other.phaseNanos[phase.ordinal()];
+        }
+
+        bytesRead += other.bytesRead;
+        allocatedBytes += other.allocatedBytes;
+        wallNanos += other.wallNanos;
+        tests += other.tests;
+    }
+
+    long nanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * <p>The time spent in all phases, which do not overlap.</p>
+     */
+    long totalNanos() {
+        long total = 0;
+
+        for (long nanos : phaseNanos) {
+            total += nanos;
+        }
+
+        return total;
+    }
+}
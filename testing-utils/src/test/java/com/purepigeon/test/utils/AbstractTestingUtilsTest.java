@@ -22,6 +22,9 @@ package com.purepigeon.test.utils;
 
 import com.purepigeon.test.utils.annotation.Suite;
 import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
 import com.purepigeon.test.utils.test.ChildGenericTestData;
 import com.purepigeon.test.utils.test.TestApp;
 import com.purepigeon.test.utils.test.TestData;
@@ -34,11 +37,13 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @WithTestingUtils
 @SpringBootTest(classes = TestApp.class)
@@ -47,6 +52,7 @@ public abstract class AbstractTestingUtilsTest {
 
     private static final String TEST_DATA = "TestData.json";
     private static final String RENAMED_TEST_DATA = "RenamedTestData.json";
+    private static final String TEST_DATA_LIST = "TestDataList.json";
 
     protected TestingUtils testingUtils;
     protected abstract void setTestingUtils(TestingUtils testingUtils);
@@ -147,17 +153,55 @@ public abstract class AbstractTestingUtilsTest {
     @ParameterizedTest
     @CsvSource({
         "NON_EXTENSIBLE",
-        "STRICT"
+        "STRICT",
+        "LENIENT",
+        "STRICT_ORDER"
     })
     protected void assertObject_testCaseAndArtifactNameAndStrictness(String strictness, String testCase) {
         testingUtils.assertObject(testCase, TEST_DATA, TestData.create(), JSONCompareMode.valueOf(strictness));
     }
 
+    @Test
+    protected void assertObject_mismatch() {
+        var actual = TestData.builder().id(TestData.ID).content("other content").build();
+        var error = assertThrows(AssertionError.class, () -> testingUtils.assertObject("assertObject_testCaseOnly", actual));
+        assertTrue(error.getMessage().contains("other content"));
+    }
+
+    @Test
+    protected void assertObjectStreaming(String testCase) {
+        // given
+        var streamingTestingUtils = (AbstractTestingUtils) testingUtils;
+        var actual = List.of(
+            TestData.create(),
+            new TestData("0b4bd2a4-8b54-4d52-9f0c-6a2f31c5b0de", "second content"),
+            new TestData("7f3e0d6c-2c8a-4a8e-b1a4-93c6e0f2d5a1", "third content")
+        );
+        var mismatched = List.of(TestData.create(), TestData.create(), TestData.create(), TestData.create());
+
+        // when
+        streamingTestingUtils.assertObjectStreaming(testCase, TEST_DATA_LIST, actual, JSONCompareMode.STRICT);
+        var error = assertThrows(AssertionError.class, () -> streamingTestingUtils.assertObjectStreaming(testCase, TEST_DATA_LIST, mismatched, JSONCompareMode.STRICT, 1));
+
+        // then
+        assertTrue(error.getMessage().startsWith("[1]: "));
+        assertEquals(1, error.getMessage().lines().filter(line -> line.startsWith("[")).count());
+    }
+
     @Test
     void getSuite() {
         assertEquals("TestingUtilsTest", testingUtils.getSuite());
     }
 
+    @Test
+    void getSuite_boundContext() {
+        try (var ignored = TestContextHolder.bind(new TestContext("OtherSuite", null))) {
+            assertEquals("OtherSuite", testingUtils.getSuite());
+        }
+
+        assertEquals("TestingUtilsTest", testingUtils.getSuite());
+    }
+
     @Test
     void getSuite_unset() {
         testingUtils.setSuite("");
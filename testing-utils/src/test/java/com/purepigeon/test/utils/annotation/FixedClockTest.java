@@ -20,7 +20,11 @@ package com.purepigeon.test.utils.annotation;
  * #L%
  */
 
+import com.purepigeon.test.utils.clock.MutableClock;
+import com.purepigeon.test.utils.clock.VirtualTimeScheduler;
+import com.purepigeon.test.utils.context.TestContextHolder;
 import com.purepigeon.test.utils.test.TestApp;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,10 +35,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
@@ -72,6 +83,17 @@ class FixedClockTest {
         void testFixedClock() {
             assertEquals(FixedClock.DEFAULT_INSTANT, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(OffsetDateTime.now(clock)));
         }
+
+        @Test
+        void testMutableClock() {
+            assertInstanceOf(MutableClock.class, clock);
+        }
+
+        @Test
+        void testMutableClockParameter(MutableClock handle) {
+            handle.advance(Duration.ofMinutes(1));
+            assertEquals(Instant.parse(FixedClock.DEFAULT_INSTANT).plus(Duration.ofMinutes(1)), clock.instant());
+        }
     }
 
     @Nested
@@ -121,6 +143,107 @@ class FixedClockTest {
         }
     }
 
+    @Nested
+    @FixedClock(value = CUSTOM_DATE, tick = "PT0.5S")
+    @WithTestingUtils
+    @SpringBootTest(classes = TestApp.class)
+    class Tick {
+
+        @Autowired
+        private Clock clock;
+
+        @Test
+        void testTick() {
+            assertEquals(Instant.parse(CUSTOM_DATE), clock.instant());
+            assertEquals(Instant.parse(CUSTOM_DATE).plusMillis(500), clock.instant());
+        }
+
+        @Test
+        @FixedClock
+        void testNoTick() {
+            assertEquals(Instant.parse(FixedClock.DEFAULT_INSTANT), clock.instant());
+            assertEquals(Instant.parse(FixedClock.DEFAULT_INSTANT), clock.instant());
+        }
+    }
+
+    @Nested
+    @FixedClock(scheduler = true)
+    @WithTestingUtils
+    @SpringBootTest(classes = TestApp.class)
+    class Scheduler {
+
+        @Autowired
+        private ScheduledExecutorService executor;
+
+        @Test
+        void testScheduler(VirtualTimeScheduler scheduler, MutableClock clock) {
+            // given
+            var future = executor.schedule(clock::instant, 1, TimeUnit.HOURS);
+
+            // when
+            scheduler.advance(Duration.ofHours(2));
+
+            // then
+            assertSame(executor, scheduler);
+            assertSame(clock, scheduler.getClock());
+            assertEquals(Instant.parse(FixedClock.DEFAULT_INSTANT).plus(Duration.ofHours(1)), future.resultNow());
+        }
+    }
+
+    @Nested
+    class Parallel {
+
+        @Test
+        void testConcurrentMethods() {
+            EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+                .selectors(selectClass(ConcurrentTest.class))
+                .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+                .configurationParameter(JupiterConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+                .configurationParameter(JupiterConfiguration.DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.succeeded(2).failed(0));
+        }
+
+        @Nested
+        @Disabled("Excluded from automatic global test run")
+        @WithTestingUtils
+        @FixedClock
+        @SpringBootTest(classes = TestApp.class)
+        class ConcurrentTest {
+
+            private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+            @Autowired
+            private Clock clock;
+
+            @Test
+            void defaultDate() {
+                assertInstant(Instant.parse(FixedClock.DEFAULT_INSTANT));
+            }
+
+            @Test
+            @FixedClock(CUSTOM_DATE)
+            void customDate() {
+                assertInstant(Instant.parse(CUSTOM_DATE));
+            }
+
+            @SneakyThrows
+            private void assertInstant(Instant expected) {
+                BARRIER.await(30, TimeUnit.SECONDS);
+
+                var platformThread = CompletableFuture.supplyAsync(clock::instant, TestContextHolder.wrap(command -> new Thread(command).start()));
+                var virtualThread = CompletableFuture.supplyAsync(clock::instant, TestContextHolder.wrap(command -> Thread.ofVirtual().start(command)));
+
+                assertEquals(expected, clock.instant());
+                assertEquals(expected, platformThread.get(30, TimeUnit.SECONDS));
+                assertEquals(expected, virtualThread.get(30, TimeUnit.SECONDS));
+            }
+        }
+    }
+
     @Nested
     class MethodLevel_WithNoClassLevel {
 
@@ -0,0 +1,177 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.impl.gson.GsonTestingUtils;
+import com.purepigeon.test.utils.impl.simple.SimpleTestingUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactCacheTest {
+
+    private static final String SUITE = "TestingUtilsTest";
+    private static final String TEST_CASE = "readString";
+    private static final String TEST_DATA = "TestData.json";
+
+    @Test
+    void get_servesHitsFromCache() {
+        // given
+        var cache = new ArtifactCache(16);
+        var loads = new AtomicInteger();
+
+        // when
+        cache.get(key("a"), k -> load(loads, 4));
+        cache.get(key("a"), k -> load(loads, 4));
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(new CacheStats(1, 1, 0, 1, 4), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsed() {
+        // given
+        var cache = new ArtifactCache(8);
+        cache.get(key("a"), k -> new byte[4]);
+        cache.get(key("b"), k -> new byte[4]);
+        cache.get(key("a"), k -> new byte[4]);
+
+        // when
+        cache.get(key("c"), k -> new byte[4]);
+
+        // then
+        assertTrue(cache.getIfPresent(key("a")).isPresent());
+        assertTrue(cache.getIfPresent(key("b")).isEmpty());
+        assertTrue(cache.getIfPresent(key("c")).isPresent());
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(8, cache.stats().weight());
+    }
+
+    @Test
+    void get_doesNotStoreOversizedValues() {
+        // given
+        var cache = new ArtifactCache(8);
+
+        // when
+        var value = cache.get(key("a"), k -> new byte[9]);
+
+        // then
+        assertEquals(9, value.length);
+        assertTrue(cache.getIfPresent(key("a")).isEmpty());
+        assertEquals(0, cache.stats().weight());
+    }
+
+    @Test
+    void invalidate() {
+        // given
+        var cache = new ArtifactCache(8);
+        cache.get(key("a"), k -> new byte[4]);
+        cache.get(key("b"), k -> new byte[4]);
+
+        // when
+        cache.invalidate(key("a"));
+
+        // then
+        assertEquals(4, cache.stats().weight());
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+    }
+
+    @Test
+    void constructor_negativeMaxWeight() {
+        assertThrows(IllegalArgumentException.class, () -> new ArtifactCache(-1));
+    }
+
+    @Test
+    void testingUtils_readString() {
+        // given
+        var cache = new ArtifactCache(1024 * 1024);
+        var testingUtils = new SimpleTestingUtils();
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactCache(cache);
+
+        // when
+        var first = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+        var second = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+
+        // then
+        assertEquals(first, second);
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        assertTrue(cache.getIfPresent(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA)).isPresent());
+    }
+
+    @Test
+    void testingUtils_hitsDoNotAccessSource() {
+        // given
+        var accesses = new AtomicInteger();
+        var content = new InMemoryArtifactSource().put(key(TEST_DATA), "{}");
+        var testingUtils = new GsonTestingUtils(new Gson());
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactCache(new ArtifactCache(1024));
+        testingUtils.setArtifactSource(new ArtifactSource() {
+            @Override
+            public InputStream open(ArtifactKey key) throws IOException {
+                accesses.incrementAndGet();
+                return content.open(key);
+            }
+
+            @Override
+            public long size(ArtifactKey key) {
+                accesses.incrementAndGet();
+                return 2;
+            }
+        });
+        testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+        accesses.set(0);
+
+        // when
+        testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+        testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, Object.class);
+
+        // then
+        assertEquals(0, accesses.get());
+    }
+
+    // --
+
+    private static ArtifactKey key(String artifactName) {
+        return new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, artifactName);
+    }
+
+    private static byte[] load(AtomicInteger loads, int size) {
+        loads.incrementAndGet();
+        return new byte[size];
+    }
+}
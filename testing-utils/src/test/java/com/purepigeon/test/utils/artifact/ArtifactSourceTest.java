@@ -0,0 +1,161 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.impl.simple.SimpleTestingUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactSourceTest {
+
+    private static final String SUITE = "JarSuite";
+    private static final String TEST_CASE = "readString";
+    private static final String TEST_DATA = "TestData.json";
+    private static final String CONTENT = "{\"value\":\"from jar\"}";
+
+    private static final ArtifactKey KEY = new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+
+    @TempDir
+    static Path directory;
+
+    private static Path jarFile;
+
+    @BeforeAll
+    static void createJar() throws Exception {
+        jarFile = directory.resolve("fixtures.jar");
+
+        try (var jar = new ZipOutputStream(Files.newOutputStream(jarFile))) {
+            jar.putNextEntry(new ZipEntry("fixtures/" + KEY.path()));
+            jar.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+            // like jars built by Maven, include directory entries, which suites are looked up by
+            jar.putNextEntry(new ZipEntry(SUITE + "/"));
+            jar.closeEntry();
+            jar.putNextEntry(new ZipEntry(KEY.path()));
+            jar.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        SuiteRoots.invalidateAll();
+    }
+
+    @Test
+    void classpath_readsFromJar() throws Exception {
+        try (var classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+            // given
+            var source = new ClasspathArtifactSource(classLoader);
+
+            // when
+            var content = source.readAllBytes(KEY);
+
+            // then
+            assertEquals(CONTENT, new String(content, StandardCharsets.UTF_8));
+            assertEquals(CONTENT, Files.readString(SuiteRoots.resolve(classLoader, SUITE, TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA)));
+            assertThrows(NoSuchFileException.class, () -> source.open(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, "Missing.json")));
+        }
+    }
+
+    @Test
+    void jar_readsFromRootDirectory() throws Exception {
+        // given
+        var source = new JarArtifactSource(jarFile, "fixtures");
+
+        // when
+        try (var content = source.open(KEY)) {
+            // then
+            assertEquals(CONTENT, new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void jar_sharesFileSystem() {
+        assertSame(JarFileSystems.get(jarFile), JarFileSystems.get(jarFile.getParent().resolve("./fixtures.jar")));
+    }
+
+    @Test
+    void inMemory() throws Exception {
+        // given
+        var source = new InMemoryArtifactSource().put(KEY, CONTENT);
+
+        // when
+        var content = source.readAllBytes(KEY);
+        content[0] = 0;
+
+        // then
+        assertEquals(CONTENT, new String(source.readAllBytes(KEY), StandardCharsets.UTF_8));
+
+        // when
+        source.remove(KEY);
+
+        // then
+        assertThrows(NoSuchFileException.class, () -> source.readAllBytes(KEY));
+    }
+
+    @Test
+    void testingUtils_readString() {
+        // given
+        var testingUtils = new SimpleTestingUtils();
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactSource(new JarArtifactSource(jarFile));
+
+        // when
+        var content = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+
+        // then
+        assertEquals(CONTENT, content);
+    }
+
+    @Test
+    void testingUtils_honorsArtifactPathOverride() throws Exception {
+        // given
+        Path artifact = Files.writeString(directory.resolve("overridden.json"), CONTENT);
+        var testingUtils = new SimpleTestingUtils() {
+            @Override
+            public Path getArtifactPath(String suite, String testCase, String artifactType, String artifactName) {
+                return artifact;
+            }
+        };
+        testingUtils.setSuite(SUITE);
+
+        // when
+        var content = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+
+        // then
+        assertEquals(CONTENT, content);
+    }
+}
@@ -0,0 +1,195 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.impl.AbstractTestingUtils;
+import com.purepigeon.test.utils.impl.gson.GsonTestingUtils;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.impl.jackson2.Jackson2TestingUtils;
+import com.purepigeon.test.utils.test.TestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedArtifactCacheTest {
+
+    private static final String SUITE = "TestingUtilsTest";
+    private static final String TEST_CASE = "readObject";
+    private static final String TEST_DATA = "TestData.json";
+    private static final String DECIMALS = "Decimals.json";
+
+    @SuppressWarnings("removal")
+    static Stream<AbstractTestingUtils> testingUtils() {
+        return Stream.of(
+            new JacksonTestingUtils(new ObjectMapper()),
+            new Jackson2TestingUtils(new com.fasterxml.jackson.databind.ObjectMapper()),
+            new GsonTestingUtils(new Gson())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_parsesOnce(AbstractTestingUtils testingUtils) {
+        // given
+        var cache = setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+
+        // when
+        var first = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+        var second = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+
+        // then
+        assertEquals(TestData.create(), first);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_returnsIndependentCopies(AbstractTestingUtils testingUtils) {
+        // given
+        setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+        var first = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, new TypeRef<Map<String, Object>>() {});
+
+        // when
+        first.put("id", "modified");
+        var second = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, new TypeRef<Map<String, Object>>() {});
+
+        // then
+        assertEquals(TestData.ID, second.get("id"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_excludedType(AbstractTestingUtils testingUtils) {
+        // given
+        var cache = setup(testingUtils, new ParsedArtifactCache(1024 * 1024).exclude(TestData.class));
+
+        // when
+        var result = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+
+        // then
+        assertEquals(TestData.create(), result);
+        assertEquals(0, cache.stats().missCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_sharedCacheDoesNotMixBackends(AbstractTestingUtils testingUtils) {
+        // given
+        var cache = setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+        var other = new JacksonTestingUtils(new ObjectMapper());
+        setup(other, cache);
+
+        // expect
+        assertEquals(TestData.create(), other.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class));
+        assertEquals(TestData.create(), testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_weighedBySourceSize(AbstractTestingUtils testingUtils) {
+        // given
+        var cache = setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+        long sourceSize = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA).getBytes(StandardCharsets.UTF_8).length;
+
+        // when
+        testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+
+        // then
+        assertEquals(sourceSize, cache.stats().weight());
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_largerThanMaximumNotCached(AbstractTestingUtils testingUtils) {
+        // given
+        var cache = setup(testingUtils, new ParsedArtifactCache(16));
+
+        // when
+        testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+        testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+
+        // then
+        assertEquals(2, cache.stats().missCount());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("testingUtils")
+    void readObject_keepsDecimalsExact(AbstractTestingUtils testingUtils) {
+        // given
+        testingUtils.setSuite(SUITE);
+        var uncached = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, DECIMALS, Decimals.class);
+        var uncachedMap = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, DECIMALS, new TypeRef<Map<String, Object>>() {});
+        setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+
+        // when
+        var cached = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, DECIMALS, Decimals.class);
+        var cachedMap = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, DECIMALS, new TypeRef<Map<String, Object>>() {});
+
+        // then
+        assertEquals(new Decimals(new BigDecimal("0.1234567890123456789012345"), new BigDecimal("1.50"), 0.5), uncached);
+        assertEquals(uncached, cached);
+        assertEquals(uncachedMap, cachedMap);
+    }
+
+    @Test
+    void readObject_treeTypeBypassesCache() {
+        // given
+        var testingUtils = new JacksonTestingUtils(new ObjectMapper());
+        var cache = setup(testingUtils, new ParsedArtifactCache(1024 * 1024));
+
+        // when
+        var first = (ObjectNode) testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, JsonNode.class);
+        first.put("id", "modified");
+        var second = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, JsonNode.class);
+
+        // then
+        assertEquals(TestData.ID, second.get("id").asString());
+        assertEquals(0, cache.stats().missCount());
+    }
+
+    // --
+
+    record Decimals(BigDecimal precise, BigDecimal scaled, double plain) {
+    }
+
+    private static ParsedArtifactCache setup(AbstractTestingUtils testingUtils, ParsedArtifactCache cache) {
+        testingUtils.setSuite(SUITE);
+        testingUtils.setParsedArtifactCache(cache);
+        return cache;
+    }
+}
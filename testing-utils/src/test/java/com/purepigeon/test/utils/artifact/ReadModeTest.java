@@ -0,0 +1,96 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.test.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadModeTest {
+
+    private static final String SUITE = "TestingUtilsTest";
+    private static final String TEST_CASE = "readObject";
+    private static final String TEST_DATA = "TestData.json";
+
+    private JacksonTestingUtils testingUtils;
+
+    @BeforeEach
+    void setup() {
+        testingUtils = new JacksonTestingUtils(new ObjectMapper());
+        testingUtils.setSuite(SUITE);
+    }
+
+    @Test
+    void auto_mapsFromThreshold() {
+        // given
+        var copied = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+        var copiedBytes = testingUtils.getReadStats().copiedBytes();
+        testingUtils.setMappedReadThreshold(0);
+
+        // when
+        var mapped = testingUtils.readObject(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, TestData.class);
+
+        // then
+        assertEquals(copied, mapped);
+        assertTrue(copiedBytes > 0);
+        assertEquals(new ReadStats(copiedBytes, copiedBytes), testingUtils.getReadStats());
+    }
+
+    @Test
+    void perRead_overridesDefault() {
+        // given
+        testingUtils.setReadMode(ReadMode.COPY);
+
+        // when
+        var mapped = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, ReadMode.MAP);
+        var mappedBytes = testingUtils.getReadStats().mappedBytes();
+        var copied = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+
+        // then
+        assertEquals(copied, mapped);
+        assertEquals(new ReadStats(mappedBytes, mappedBytes), testingUtils.getReadStats());
+        assertEquals(ReadMode.COPY, testingUtils.getReadMode());
+    }
+
+    @Test
+    void map_fallsBackToCopyForUnmappableSources() {
+        // given
+        var key = new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA);
+        testingUtils.setArtifactSource(new InMemoryArtifactSource().put(key, "{\"a\":\"b\"}"));
+
+        // when
+        var content = testingUtils.readString(TEST_CASE, DefaultArtifactType.INPUT, TEST_DATA, ReadMode.MAP);
+
+        // then
+        assertEquals("{\"a\":\"b\"}", content);
+        assertEquals(new ReadStats(0, content.length()), testingUtils.getReadStats());
+    }
+
+    @Test
+    void mappedReadThreshold_mustNotBeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> testingUtils.setMappedReadThreshold(-1));
+    }
+}
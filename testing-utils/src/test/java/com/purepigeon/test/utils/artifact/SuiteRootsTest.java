@@ -0,0 +1,106 @@
+package com.purepigeon.test.utils.artifact;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuiteRootsTest {
+
+    private static final String SUITE = "TestingUtilsTest";
+
+    @AfterEach
+    void cleanup() {
+        SuiteRoots.invalidateAll();
+    }
+
+    @Test
+    void resolve() throws Exception {
+        // given
+        var classLoader = getClass().getClassLoader();
+        var expected = Paths.get(classLoader.getResource(SUITE).toURI());
+
+        // when
+        var root = SuiteRoots.resolve(classLoader, SUITE);
+        var artifact = SuiteRoots.resolve(classLoader, SUITE, "readString", "input", "TestData.json");
+
+        // then
+        assertEquals(expected, root);
+        assertEquals(expected.resolve("readString").resolve("input").resolve("TestData.json"), artifact);
+        assertTrue(Files.exists(artifact));
+    }
+
+    @Test
+    void resolve_isMemoizedPerClassLoader() throws Exception {
+        // given
+        var directory = Files.createTempDirectory("suite-roots");
+        Files.createDirectory(directory.resolve(SUITE));
+
+        try (var classLoader = new CountingClassLoader(directory)) {
+            // when
+            var first = SuiteRoots.resolve(classLoader, SUITE);
+            var second = SuiteRoots.resolve(classLoader, SUITE);
+
+            // then
+            assertSame(first, second);
+            assertEquals(1, classLoader.lookups);
+            assertNotEquals(first, SuiteRoots.resolve(getClass().getClassLoader(), SUITE));
+
+            // when
+            SuiteRoots.invalidate(classLoader, SUITE);
+            SuiteRoots.resolve(classLoader, SUITE);
+
+            // then
+            assertEquals(2, classLoader.lookups);
+        }
+    }
+
+    @Test
+    void resolve_missingSuite() {
+        var classLoader = getClass().getClassLoader();
+        assertThrows(NullPointerException.class, () -> SuiteRoots.resolve(classLoader, "NoSuchSuite"));
+    }
+
+    // --
+
+    private static class CountingClassLoader extends URLClassLoader {
+
+        private int lookups;
+
+        CountingClassLoader(Path directory) throws Exception {
+            super(new URL[] { directory.toUri().toURL() }, null);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            lookups++;
+            return super.getResource(name);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutableClockTest {
+
+    private static final Instant INSTANT = Instant.parse("2025-01-10T12:30:15.123Z");
+
+    @Test
+    void instant() {
+        // given
+        var clock = new MutableClock(INSTANT);
+
+        // expect
+        assertEquals(INSTANT, clock.instant());
+        assertEquals(INSTANT.toEpochMilli(), clock.millis());
+        assertEquals(ZoneOffset.UTC, clock.getZone());
+    }
+
+    @Test
+    void set() {
+        // given
+        var clock = new MutableClock(INSTANT);
+        var other = Instant.parse("1990-01-01T12:00:00Z");
+
+        // when
+        clock.set(other);
+
+        // then
+        assertEquals(other, clock.instant());
+    }
+
+    @Test
+    void advance() {
+        // given
+        var clock = new MutableClock(INSTANT);
+
+        // when
+        var advanced = clock.advance(Duration.ofMinutes(5));
+        clock.advance(Duration.ofSeconds(-30));
+
+        // then
+        assertEquals(INSTANT.plusSeconds(300), advanced);
+        assertEquals(INSTANT.plusSeconds(270), clock.instant());
+    }
+
+    @Test
+    void tick() {
+        // given
+        var clock = new MutableClock(INSTANT);
+
+        // when
+        clock.setTick(Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        // then
+        assertEquals(INSTANT, clock.instant());
+        assertEquals(INSTANT.plusSeconds(1), clock.instant());
+        assertEquals(INSTANT.plusSeconds(6).toEpochMilli(), clock.millis());
+        assertEquals(INSTANT.plusSeconds(11), clock.instant());
+    }
+
+    @Test
+    void tick_stop() {
+        // given
+        var clock = new MutableClock(INSTANT);
+        clock.setTick(Duration.ofSeconds(1));
+        clock.instant();
+
+        // when
+        clock.setTick();
+
+        // then
+        assertEquals(INSTANT.plusSeconds(1), clock.instant());
+        assertEquals(INSTANT.plusSeconds(1), clock.instant());
+    }
+
+    @Test
+    void tick_negative() {
+        assertThrows(IllegalArgumentException.class, () -> new MutableClock(INSTANT).setTick(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void reset() {
+        // given
+        var clock = new MutableClock(INSTANT);
+        clock.advance(Duration.ofHours(1));
+        clock.setTick(Duration.ofSeconds(1));
+
+        // when
+        clock.reset();
+
+        // then
+        assertEquals(INSTANT, clock.instant());
+        assertEquals(INSTANT, clock.instant());
+    }
+
+    @Test
+    void ofSystem() {
+        // given
+        var clock = MutableClock.ofSystem();
+
+        // when
+        var before = Instant.now();
+        var system = clock.instant();
+        clock.set(INSTANT);
+        var fixed = clock.instant();
+        clock.release();
+
+        // then
+        assertTrue(!system.isBefore(before.minusSeconds(1)));
+        assertEquals(INSTANT, fixed);
+        assertTrue(clock.instant().isAfter(INSTANT));
+    }
+
+    @Test
+    void ofSystem_advance() {
+        // given
+        var clock = MutableClock.ofSystem();
+        var before = Instant.now();
+
+        // when
+        var advanced = clock.advance(Duration.ofDays(1));
+
+        // then
+        assertTrue(advanced.isAfter(before.plus(Duration.ofHours(23))));
+        assertEquals(advanced, clock.instant());
+    }
+
+    @Test
+    void withZone() {
+        // given
+        var clock = new MutableClock(INSTANT);
+        var zone = ZoneId.of("Europe/Budapest");
+
+        // when
+        var zoned = clock.withZone(zone);
+        zoned.advance(Duration.ofSeconds(1));
+
+        // then
+        assertEquals(zone, zoned.getZone());
+        assertEquals(INSTANT.plusSeconds(1), clock.instant());
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        assertEquals(zoned, clock.withZone(zone));
+        assertNotEquals(clock, zoned);
+        assertNotEquals(new MutableClock(INSTANT), clock);
+        assertNotEquals(Clock.fixed(INSTANT, ZoneOffset.UTC), clock);
+    }
+
+    @Test
+    void testBound() {
+        // given
+        var clock = MutableClock.testBound(INSTANT);
+        var testClock = new MutableClock(INSTANT.plusSeconds(60));
+
+        // when
+        try (var ignored = TestContextHolder.bind(new TestContext("suite", "testCase", testClock))) {
+            clock.advance(Duration.ofSeconds(1));
+
+            // then
+            assertTrue(clock.isTestBound());
+            assertEquals(INSTANT.plusSeconds(61), clock.instant());
+            assertEquals(INSTANT.plusSeconds(61), testClock.instant());
+        }
+
+        assertEquals(INSTANT, clock.instant());
+    }
+
+    @Test
+    void testBound_noClock() {
+        // given
+        var clock = MutableClock.testBound(INSTANT);
+
+        // when
+        try (var ignored = TestContextHolder.bind(new TestContext("suite", "testCase"))) {
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        // then
+        assertEquals(INSTANT.plusSeconds(1), clock.instant());
+    }
+}
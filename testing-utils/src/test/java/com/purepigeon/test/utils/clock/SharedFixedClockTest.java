@@ -0,0 +1,238 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.test.TestApp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.SpringProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class SharedFixedClockTest {
+
+    private static final String CUSTOM_DATE = "2010-06-10T17:00:00.123Z";
+
+    private static final List<ApplicationContext> CONTEXTS = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void enable() {
+        SpringProperties.setFlag(SharedFixedClock.ENABLED_PROPERTY);
+    }
+
+    @AfterEach
+    void disable() {
+        SpringProperties.setProperty(SharedFixedClock.ENABLED_PROPERTY, null);
+        SharedFixedClock.get().release();
+    }
+
+    @Test
+    void registrar_create() {
+        // given
+        var context = new GenericApplicationContext();
+        context.registerBean(SharedFixedClockRegistrar.class);
+
+        // when
+        context.refresh();
+
+        // then
+        assertSame(SharedFixedClock.get(), context.getBean(SharedFixedClockRegistrar.BEAN_NAME));
+    }
+
+    @Test
+    void registrar_replace() {
+        // given
+        var context = new GenericApplicationContext();
+        context.registerBean("clock", Clock.class, Clock::systemUTC);
+        context.registerBean(SharedFixedClockRegistrar.class);
+
+        // when
+        context.refresh();
+
+        // then
+        assertSame(SharedFixedClock.get(), context.getBean(Clock.class));
+        assertSame(SharedFixedClock.get(), context.getBean("clock"));
+    }
+
+    @Test
+    void registrar_multiple() {
+        // given
+        var context = new GenericApplicationContext();
+        context.registerBean("clock", Clock.class, Clock::systemUTC);
+        context.registerBean("otherClock", Clock.class, Clock::systemUTC);
+        context.registerBean(SharedFixedClockRegistrar.class);
+
+        // expect
+        assertThrows(IllegalStateException.class, context::refresh);
+    }
+
+    @Test
+    void sharedContext() {
+        // given
+        CONTEXTS.clear();
+
+        // when
+        EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+            .selectors(selectClass(SharedContextTest.FixedClockTest.class), selectClass(SharedContextTest.NoFixedClockTest.class))
+            .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2).failed(0));
+
+        // then
+        assertEquals(2, CONTEXTS.size());
+        assertSame(CONTEXTS.getFirst(), CONTEXTS.getLast());
+    }
+
+    @Test
+    void concurrentClasses() {
+        // when
+        EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+            .selectors(selectClass(ConcurrentClassesTest.ShortTest.class), selectClass(ConcurrentClassesTest.LongTest.class))
+            .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+            .configurationParameter(JupiterConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+            .configurationParameter(JupiterConfiguration.DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent")
+            .configurationParameter(JupiterConfiguration.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, "concurrent")
+            .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+            .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2).failed(0));
+
+        // then
+        assertTrue(Duration.between(SharedFixedClock.get().instant(), Instant.now()).abs().toSeconds() < 60);
+    }
+
+    @Disabled("Excluded from automatic global test run")
+    static class SharedContextTest {
+
+        @Nested
+        @FixedClock(CUSTOM_DATE)
+        @WithTestingUtils
+        @SpringBootTest(classes = TestApp.class, properties = "shared-fixed-clock-test=true")
+        class FixedClockTest {
+
+            @Autowired
+            private ApplicationContext applicationContext;
+
+            @Autowired
+            private Clock clock;
+
+            @Test
+            void testFixedClock() {
+                CONTEXTS.add(applicationContext);
+                assertEquals(Instant.parse(CUSTOM_DATE), clock.instant());
+            }
+        }
+
+        @Nested
+        @WithTestingUtils
+        @SpringBootTest(classes = TestApp.class, properties = "shared-fixed-clock-test=true")
+        class NoFixedClockTest {
+
+            @Autowired
+            private ApplicationContext applicationContext;
+
+            @Autowired
+            private Clock clock;
+
+            @Test
+            void testSystemClock() {
+                CONTEXTS.add(applicationContext);
+                assertTrue(Duration.between(clock.instant(), Instant.now()).abs().toSeconds() < 60);
+            }
+        }
+    }
+
+    @Disabled("Excluded from automatic global test run")
+    static class ConcurrentClassesTest {
+
+        private static final CountDownLatch SHORT_TEST_FINISHED = new CountDownLatch(1);
+
+        @Nested
+        @FixedClock(CUSTOM_DATE)
+        @WithTestingUtils
+        @ExtendWith(ConcurrentClassesTest.Finished.class)
+        @SpringBootTest(classes = TestApp.class, properties = "shared-fixed-clock-test=true")
+        class ShortTest {
+
+            @Test
+            void testFixedClock() {
+                assertEquals(Instant.parse(CUSTOM_DATE), SharedFixedClock.get().instant());
+            }
+        }
+
+        @Nested
+        @FixedClock(CUSTOM_DATE)
+        @WithTestingUtils
+        @SpringBootTest(classes = TestApp.class, properties = "shared-fixed-clock-test=true")
+        class LongTest {
+
+            @Test
+            void testFixedClock() throws Exception {
+                // given
+                assertTrue(SHORT_TEST_FINISHED.await(30, TimeUnit.SECONDS));
+
+                // when
+                var instant = CompletableFuture.supplyAsync(SharedFixedClock.get()::instant, command -> new Thread(command).start()).get();
+
+                // then
+                assertEquals(Instant.parse(CUSTOM_DATE), instant);
+            }
+        }
+
+        static class Finished implements AfterAllCallback {
+
+            @Override
+            public void afterAll(ExtensionContext context) {
+                SHORT_TEST_FINISHED.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.purepigeon.test.utils.clock;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualTimeSchedulerTest {
+
+    private static final Instant INSTANT = Instant.parse("2025-01-10T12:30:15.123Z");
+
+    private final MutableClock clock = new MutableClock(INSTANT);
+    private final VirtualTimeScheduler scheduler = new VirtualTimeScheduler(clock);
+    private final List<Instant> runs = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    @Test
+    void execute() {
+        // when
+        scheduler.execute(this::record);
+
+        // then
+        assertEquals(List.of(INSTANT), runs);
+    }
+
+    @Test
+    void schedule() throws ExecutionException, InterruptedException {
+        // given
+        var future = scheduler.schedule(() -> clock.instant(), 5, TimeUnit.SECONDS);
+
+        // when
+        scheduler.advance(Duration.ofSeconds(4));
+        var doneEarly = future.isDone();
+        var result = scheduler.advance(Duration.ofSeconds(2));
+
+        // then
+        assertFalse(doneEarly);
+        assertEquals(INSTANT.plusSeconds(5), future.get());
+        assertEquals(INSTANT.plusSeconds(6), result);
+        assertEquals(INSTANT.plusSeconds(6), clock.instant());
+    }
+
+    @Test
+    void schedule_order() {
+        // given
+        scheduler.schedule(() -> recordNamed("second"), 2, TimeUnit.SECONDS);
+        scheduler.schedule(() -> recordNamed("first"), 1, TimeUnit.SECONDS);
+        scheduler.schedule(() -> recordNamed("third"), 2, TimeUnit.SECONDS);
+
+        // when
+        scheduler.advance(Duration.ofSeconds(3));
+
+        // then
+        assertEquals(List.of(INSTANT.plusSeconds(1), INSTANT.plusSeconds(2), INSTANT.plusSeconds(2)), runs);
+        assertEquals(List.of("first", "second", "third"), names);
+    }
+
+    @Test
+    void schedule_beyondEndOfTime() {
+        // given
+        var future = scheduler.schedule(this::record, Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        scheduler.schedule(this::record, Long.MAX_VALUE, TimeUnit.DAYS);
+
+        // when
+        var result = scheduler.advance(Duration.ofDays(365));
+
+        // then
+        assertEquals(INSTANT.plus(Duration.ofDays(365)), result);
+        assertFalse(future.isDone());
+        assertTrue(runs.isEmpty());
+        assertEquals(2, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    void scheduleAtFixedRate() {
+        // given
+        scheduler.scheduleAtFixedRate(this::record, 1, 10, TimeUnit.MINUTES);
+
+        // when
+        scheduler.advance(Duration.ofHours(1));
+
+        // then
+        assertEquals(6, runs.size());
+        assertEquals(INSTANT.plus(Duration.ofMinutes(51)), runs.getLast());
+        assertEquals(1, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    void scheduleWithFixedDelay() {
+        // given
+        scheduler.scheduleWithFixedDelay(() -> {
+            record();
+            clock.advance(Duration.ofMinutes(1));
+        }, 0, 10, TimeUnit.MINUTES);
+
+        // when
+        scheduler.advance(Duration.ofMinutes(30));
+
+        // then
+        assertEquals(List.of(INSTANT, INSTANT.plus(Duration.ofMinutes(11)), INSTANT.plus(Duration.ofMinutes(22))), runs);
+    }
+
+    @Test
+    void cancel() {
+        // given
+        var future = scheduler.scheduleAtFixedRate(this::record, 1, 1, TimeUnit.SECONDS);
+        scheduler.advance(Duration.ofSeconds(2));
+
+        // when
+        future.cancel(false);
+        scheduler.advance(Duration.ofSeconds(2));
+
+        // then
+        assertEquals(2, runs.size());
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    void shutdown() {
+        // given
+        scheduler.scheduleAtFixedRate(this::record, 1, 1, TimeUnit.SECONDS);
+        scheduler.schedule(this::record, 5, TimeUnit.SECONDS);
+
+        // when
+        scheduler.shutdown();
+
+        // then
+        assertThrows(RejectedExecutionException.class, () -> scheduler.execute(this::record));
+        assertFalse(scheduler.isTerminated());
+
+        scheduler.advance(Duration.ofSeconds(10));
+        assertEquals(List.of(INSTANT.plusSeconds(5)), runs);
+        assertTrue(scheduler.isTerminated());
+    }
+
+    @Test
+    void reset() {
+        // given
+        scheduler.schedule(this::record, 1, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+
+        // when
+        scheduler.reset();
+        scheduler.schedule(this::record, 2, TimeUnit.SECONDS);
+        scheduler.advance(Duration.ofSeconds(2));
+
+        // then
+        assertEquals(List.of(INSTANT.plusSeconds(2)), runs);
+    }
+
+    // --
+
+    private void record() {
+        runs.add(clock.instant());
+    }
+
+    private void recordNamed(String name) {
+        record();
+        names.add(name);
+    }
+}
@@ -0,0 +1,103 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.json.JSONException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.skyscreamer.jsonassert.JSONCompare;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonTreeComparatorTest {
+
+    static Stream<Arguments> comparisons() {
+        return Stream.of(
+            pair("{\"a\":1,\"b\":\"x\"}", "{\"b\":\"x\",\"a\":1}"),
+            pair("{\"a\":1}", "{\"a\":1,\"b\":2}"),
+            pair("{\"a\":1,\"b\":2}", "{\"a\":1}"),
+            pair("{\"a\":null}", "{}"),
+            pair("{\"a\":null}", "{\"a\":null}"),
+            pair("{\"a\":1}", "{\"a\":1.0}"),
+            pair("{\"a\":1}", "{\"a\":\"1\"}"),
+            pair("{\"a\":true}", "{\"a\":false}"),
+            pair("{\"a\":{\"b\":[1,2]}}", "{\"a\":{\"b\":[1,2],\"c\":3}}"),
+            pair("[1,2,3]", "[3,2,1]"),
+            pair("[1,2,3]", "[1,2]"),
+            pair("[1,1,2]", "[1,2,2]"),
+            pair("[1,2]", "[1.0,2.0]"),
+            pair("[\"a\",null,true]", "[true,null,\"a\"]"),
+            pair("[[1,2],[3]]", "[[3],[2,1]]"),
+            pair("[1,{\"a\":1},[2]]", "[[2],1,{\"a\":1,\"b\":2}]"),
+            pair("[1,{\"a\":1}]", "[1.0,{\"a\":1}]"),
+            pair("[9007199254740993,1]", "[1,9007199254740992]"),
+            pair("{\"a\":[9007199254740993]}", "{\"a\":[9007199254740993]}"),
+            pair("[]", "[]"),
+            pair("{\"a\":[]}", "{\"a\":{}}")
+        ).flatMap(pair -> Stream.of(JSONCompareMode.values()).map(mode -> Arguments.of(pair[0], pair[1], mode)));
+    }
+
+    static Stream<Arguments> arraysOfObjects() {
+        return Stream.of(
+            pair("[{\"id\":1,\"v\":\"a\"},{\"id\":2,\"v\":\"b\"}]", "[{\"id\":2,\"v\":\"b\"},{\"id\":1,\"v\":\"a\"}]"),
+            pair("[{\"id\":1},{\"id\":2}]", "[{\"id\":2,\"x\":0},{\"id\":1,\"x\":0}]"),
+            pair("[{\"id\":1},{\"id\":1}]", "[{\"id\":1},{\"id\":2}]"),
+            pair("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]", "[{\"id\":1.0,\"name\":\"a\"},{\"id\":2.0,\"name\":\"b\"}]"),
+            pair("{\"a\":[{\"id\":1},{\"id\":2}]}", "{\"a\":[{\"id\":1.0},{\"id\":2.0}]}")
+        ).flatMap(pair -> Stream.of(JSONCompareMode.values()).map(mode -> Arguments.of(pair[0], pair[1], mode)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisons")
+    void matches_agreesWithJsonAssert(String expected, String actual, JSONCompareMode mode) throws JSONException {
+        // given
+        var jsonAssert = JSONCompare.compareJSON(expected, actual, mode).passed();
+
+        // when
+        var matches = JsonTreeComparator.matches(new OrgJsonTreeModel(), OrgJsonTreeModel.parse(expected), OrgJsonTreeModel.parse(actual), mode);
+
+        // then
+        assertEquals(jsonAssert, matches);
+    }
+
+    @ParameterizedTest
+    @MethodSource("arraysOfObjects")
+    void matches_leavesArraysOfObjectsInAnyOrderToJsonAssert(String expected, String actual, JSONCompareMode mode) throws JSONException {
+        // given
+        var jsonAssert = JSONCompare.compareJSON(expected, actual, mode).passed();
+
+        // when
+        var matches = JsonTreeComparator.matches(new OrgJsonTreeModel(), OrgJsonTreeModel.parse(expected), OrgJsonTreeModel.parse(actual), mode);
+
+        // then
+        assertEquals(mode.hasStrictOrder() && jsonAssert, matches);
+    }
+
+    // --
+
+    private static String[] pair(String expected, String actual) {
+        return new String[] { expected, actual };
+    }
+}
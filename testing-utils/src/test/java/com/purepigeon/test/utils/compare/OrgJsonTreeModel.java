@@ -0,0 +1,101 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>The tree model JSONAssert itself compares, so results can be checked against it directly.</p>
+ */
+class OrgJsonTreeModel implements JsonTreeModel<Object> {
+
+    static Object parse(String json) throws JSONException {
+        return new JSONTokener(json).nextValue();
+    }
+
+    @Override
+    public Kind kind(Object node) {
+        if (node instanceof JSONObject) {
+            return Kind.OBJECT;
+        } else if (node instanceof JSONArray) {
+            return Kind.ARRAY;
+        } else if (node instanceof String) {
+            return Kind.STRING;
+        } else if (node instanceof Number) {
+            return Kind.NUMBER;
+        } else if (node instanceof Boolean) {
+            return Kind.BOOLEAN;
+        } else if (node == JSONObject.NULL) {
+            return Kind.NULL;
+        }
+
+        return Kind.OTHER;
+    }
+
+    @Override
+    public Collection<String> fieldNames(Object object) {
+        List<String> fieldNames = new ArrayList<>();
+        ((JSONObject) object).keys().forEachRemaining(key -> fieldNames.add((String) key));
+        return fieldNames;
+    }
+
+    @Override
+    public Object field(Object object, String fieldName) {
+        return ((JSONObject) object).opt(fieldName);
+    }
+
+    @Override
+    public int size(Object array) {
+        return ((JSONArray) array).length();
+    }
+
+    @Override
+    public Object element(Object array, int index) {
+        return ((JSONArray) array).opt(index);
+    }
+
+    @Override
+    public String stringValue(Object node) {
+        return (String) node;
+    }
+
+    @Override
+    public boolean booleanValue(Object node) {
+        return (Boolean) node;
+    }
+
+    @Override
+    public double doubleValue(Object node) {
+        return ((Number) node).doubleValue();
+    }
+
+    @Override
+    public boolean isIntegral(Object node) {
+        return node instanceof Integer || node instanceof Long;
+    }
+}
@@ -0,0 +1,139 @@
+package com.purepigeon.test.utils.compare;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.compare.JsonTreeModel.Kind;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingArrayComparatorTest {
+
+    private final OrgJsonTreeModel model = new OrgJsonTreeModel();
+
+    @Test
+    void compare_matches() throws JSONException {
+        // given
+        var comparator = new StreamingArrayComparator<>(model, JSONCompareMode.STRICT, 10);
+
+        // when
+        var mismatches = comparator.compare(elements("[{\"a\":1},2,[3]]"), elements("[{\"a\":1.0},2,[3]]"));
+
+        // then
+        assertTrue(mismatches.isEmpty());
+    }
+
+    @Test
+    void compare_stopsAfterMaxMismatches() throws JSONException {
+        // given
+        var comparator = new StreamingArrayComparator<>(model, JSONCompareMode.STRICT_ORDER, 2);
+        var actual = elements("[{\"a\":2},1,{\"a\":1,\"b\":2},3]");
+        var consumed = new CountingIterator(actual);
+
+        // when
+        var mismatches = comparator.compare(elements("[{\"a\":1},2,{\"a\":1},4]"), consumed);
+
+        // then
+        assertEquals(2, mismatches.size());
+        assertTrue(mismatches.get(0).startsWith("[0]: a"));
+        assertEquals("[1]: Expected 2 but found 1", mismatches.get(1));
+        assertEquals(2, consumed.count);
+    }
+
+    @Test
+    void compare_differentLengths() throws JSONException {
+        // given
+        var comparator = new StreamingArrayComparator<>(model, JSONCompareMode.STRICT, 10);
+
+        // when
+        var missing = comparator.compare(elements("[1,2,3]"), elements("[1,2]"));
+        var unexpected = comparator.compare(elements("[1,2]"), elements("[1,2,3]"));
+
+        // then
+        assertEquals(List.of("[2]: Expected 3 but none found"), missing);
+        assertEquals(List.of("[2]: Unexpected 3"), unexpected);
+    }
+
+    @Test
+    void compare_jsonAssertHasFinalSay() throws JSONException {
+        // given
+        var numbersUnsupported = new OrgJsonTreeModel() {
+            @Override
+            public Kind kind(Object node) {
+                return node instanceof Number ? Kind.OTHER : super.kind(node);
+            }
+        };
+        var comparator = new StreamingArrayComparator<>(numbersUnsupported, JSONCompareMode.STRICT, 10);
+
+        // when
+        var mismatches = comparator.compare(elements("[1,{\"a\":2},3]"), elements("[1,{\"a\":2},4]"));
+
+        // then
+        assertEquals(List.of("[2]: Expected 3 but found 4"), mismatches);
+    }
+
+    @Test
+    void constructor_requiresStrictOrder() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingArrayComparator<>(model, JSONCompareMode.LENIENT, 10));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingArrayComparator<>(model, JSONCompareMode.STRICT, 0));
+    }
+
+    // --
+
+    private static Iterator<Object> elements(String json) throws JSONException {
+        var array = (JSONArray) OrgJsonTreeModel.parse(json);
+        var elements = new ArrayList<>();
+
+        for (int i = 0; i < array.length(); i++) {
+            elements.add(array.get(i));
+        }
+
+        return elements.iterator();
+    }
+
+    private static class CountingIterator implements Iterator<Object> {
+
+        private final Iterator<Object> delegate;
+        private int count;
+
+        CountingIterator(Iterator<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            count++;
+            return delegate.next();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.purepigeon.test.utils.context;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TestContextHolderTest {
+
+    private static final TestContext OUTER = new TestContext("OuterSuite", null);
+    private static final TestContext INNER = new TestContext("InnerSuite", "innerTestCase");
+
+    @Test
+    void bind() {
+        // given
+        var initial = TestContextHolder.current();
+
+        // expect
+        try (var ignoredOuter = TestContextHolder.bind(OUTER)) {
+            assertEquals(Optional.of(OUTER), TestContextHolder.current());
+
+            try (var ignoredInner = TestContextHolder.bind(INNER)) {
+                assertEquals(Optional.of(INNER), TestContextHolder.current());
+            }
+
+            assertEquals(Optional.of(OUTER), TestContextHolder.current());
+        }
+
+        assertEquals(initial, TestContextHolder.current());
+    }
+
+    @Test
+    void replace() {
+        try (var ignoredOuter = TestContextHolder.bind(OUTER)) {
+            try (var ignoredInner = TestContextHolder.bind(INNER)) {
+                TestContextHolder.replace(new TestContext("ReplacedSuite", "innerTestCase"));
+                assertEquals("ReplacedSuite", TestContextHolder.current().map(TestContext::suite).orElseThrow());
+            }
+
+            assertEquals(Optional.of(OUTER), TestContextHolder.current());
+        }
+    }
+
+    @Test
+    void bind_perThread() throws InterruptedException {
+        // given
+        var otherThreadContext = new AtomicReference<Optional<TestContext>>();
+
+        // when
+        try (var ignored = TestContextHolder.bind(OUTER)) {
+            Thread thread = Thread.ofPlatform().start(() -> {
+                try (var ignoredInner = TestContextHolder.bind(INNER)) {
+                    otherThreadContext.set(TestContextHolder.current());
+                }
+            });
+            thread.join();
+
+            // then
+            assertEquals(Optional.of(INNER), otherThreadContext.get());
+            assertEquals(Optional.of(OUTER), TestContextHolder.current());
+        }
+    }
+
+    @Test
+    void bind_notInheritedByPoolThreads() throws Exception {
+        // given
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            // when
+            try (var ignored = TestContextHolder.bind(OUTER)) {
+                // the pool thread is created while the context is bound
+                assertEquals(Optional.empty(), executor.submit(TestContextHolder::current).get());
+            }
+
+            // then
+            assertEquals(Optional.empty(), executor.submit(TestContextHolder::current).get());
+        }
+    }
+
+    @Test
+    void wrap() throws Exception {
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            // given
+            Callable<Optional<TestContext>> task = TestContextHolder::current;
+            var context = new AtomicReference<Optional<TestContext>>();
+            Future<Optional<TestContext>> wrappedCallable;
+
+            // when
+            try (var ignored = TestContextHolder.bind(OUTER)) {
+                wrappedCallable = executor.submit(TestContextHolder.wrap(task));
+                CompletableFuture.runAsync(() -> context.set(TestContextHolder.current()), TestContextHolder.wrap((Executor) executor)).get();
+            }
+
+            // then
+            assertEquals(Optional.of(OUTER), wrappedCallable.get());
+            assertEquals(Optional.of(OUTER), context.get());
+            assertEquals(Optional.empty(), executor.submit(task).get());
+            assertSame(task, TestContextHolder.wrap(task));
+        }
+    }
+}
@@ -20,14 +20,31 @@ package com.purepigeon.test.utils.extension;
  * #L%
  */
 
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.annotation.Suite;
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.test.TestApp;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
 
 import java.lang.reflect.Parameter;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -54,4 +71,58 @@ class TestingUtilsExtensionTest {
         // expect
         assertThrows(IllegalStateException.class, () -> extension.supportsParameter(parameterContext, extensionContext));
     }
+
+    @Test
+    void testConcurrentClasses() {
+        EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+            .selectors(selectClass(ConcurrentTest.FirstTest.class), selectClass(ConcurrentTest.SecondTest.class))
+            .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+            .configurationParameter(JupiterConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+            .configurationParameter(JupiterConfiguration.DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent")
+            .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+            .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2).failed(0));
+    }
+
+    @Disabled("Excluded from automatic global test run")
+    static class ConcurrentTest {
+
+        private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+        @Nested
+        @WithTestingUtils
+        @Suite("concurrent")
+        @SpringBootTest(classes = TestApp.class)
+        class FirstTest {
+
+            @Autowired
+            private TestingUtils testingUtils;
+
+            @Test
+            @SneakyThrows
+            void getSuite() {
+                BARRIER.await(30, TimeUnit.SECONDS);
+                assertEquals("concurrent/FirstTest", testingUtils.getSuite());
+            }
+        }
+
+        @Nested
+        @WithTestingUtils
+        @Suite("concurrent")
+        @SpringBootTest(classes = TestApp.class)
+        class SecondTest {
+
+            @Autowired
+            private TestingUtils testingUtils;
+
+            @Test
+            @SneakyThrows
+            void getSuite() {
+                BARRIER.await(30, TimeUnit.SECONDS);
+                assertEquals("concurrent/SecondTest", testingUtils.getSuite());
+            }
+        }
+    }
 }
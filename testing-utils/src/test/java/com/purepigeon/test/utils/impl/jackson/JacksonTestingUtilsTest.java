@@ -22,11 +22,18 @@ package com.purepigeon.test.utils.impl.jackson;
 
 import com.purepigeon.test.utils.AbstractTestingUtilsTest;
 import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.TypeRef;
+import com.purepigeon.test.utils.test.TestData;
 import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class JacksonTestingUtilsTest extends AbstractTestingUtilsTest {
 
@@ -41,4 +48,22 @@ class JacksonTestingUtilsTest extends AbstractTestingUtilsTest {
     protected void assertImpl() {
         assertInstanceOf(JacksonTestingUtils.class, testingUtils);
     }
+
+    @Test
+    void assertObjectStreaming_withoutElementReader() {
+        // given
+        var nonStreaming = new JacksonTestingUtils(new ObjectMapper()) {
+            @Override
+            protected ElementReader<JsonNode> elementReader() {
+                return null;
+            }
+        };
+        nonStreaming.setSuite("TestingUtilsTest");
+        var actual = nonStreaming.readExpectedObject("assertObjectStreaming", "TestDataList.json", new TypeRef<List<TestData>>() {});
+
+        // expect
+        assertDoesNotThrow(() -> nonStreaming.assertObjectStreaming("assertObjectStreaming", "TestDataList.json", actual, JSONCompareMode.STRICT));
+        assertThrows(AssertionError.class, () -> nonStreaming.assertObjectStreaming("assertObjectStreaming", "TestDataList.json", List.of(TestData.create()), JSONCompareMode.STRICT));
+        assertThrows(IllegalArgumentException.class, () -> nonStreaming.assertObjectStreaming("assertObjectStreaming", "TestDataList.json", actual, JSONCompareMode.LENIENT));
+    }
 }
@@ -76,12 +76,26 @@ public class SimpleTestingUtilsTest extends AbstractTestingUtilsTest {
     @ParameterizedTest
     @CsvSource({
         "NON_EXTENSIBLE",
-        "STRICT"
+        "STRICT",
+        "LENIENT",
+        "STRICT_ORDER"
     })
     protected void assertObject_testCaseAndArtifactNameAndStrictness(String strictness, String testCase) {
         assertThrows(UnsupportedOperationException.class, () -> super.assertObject_testCaseAndArtifactNameAndStrictness(strictness, testCase));
     }
 
+    @Test
+    @Override
+    protected void assertObject_mismatch() {
+        assertThrows(UnsupportedOperationException.class, () -> testingUtils.assertObject("assertObject_testCaseOnly", TestData.create()));
+    }
+
+    @Test
+    @Override
+    protected void assertObjectStreaming(String testCase) {
+        assertThrows(UnsupportedOperationException.class, () -> super.assertObjectStreaming(testCase));
+    }
+
     @Test
     @Override
     protected void genericReadTest(String testCase) {
@@ -0,0 +1,149 @@
+package com.purepigeon.test.utils.jfr;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.InMemoryArtifactSource;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.test.TestData;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestingUtilsEventsTest {
+
+    private static final String SUITE = "TestingUtilsEventsTest";
+    private static final String TEST_CASE = "events";
+    private static final String ARTIFACT_NAME = "TestData.json";
+
+    @TempDir
+    private Path tempDir;
+
+    private JacksonTestingUtils testingUtils;
+
+    private String json;
+
+    @BeforeEach
+    void setUp() {
+        testingUtils = new JacksonTestingUtils(JsonMapper.builder().build());
+        json = testingUtils.objectToJson(TestData.create());
+
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactSource(new InMemoryArtifactSource()
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, ARTIFACT_NAME), json)
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.EXPECTED, ARTIFACT_NAME), json));
+    }
+
+    @Test
+    void artifactRead() {
+        // when
+        var events = record(() -> {
+            testingUtils.readInputString(TEST_CASE, ARTIFACT_NAME);
+            testingUtils.readInputObject(TEST_CASE, ARTIFACT_NAME, TestData.class);
+        }, ArtifactReadEvent.NAME);
+
+        // then
+        assertEquals(2, events.size());
+        events.forEach(event -> {
+            assertEquals(SUITE, event.getString("suite"));
+            assertEquals(TEST_CASE, event.getString("testCase"));
+            assertEquals(DefaultArtifactType.INPUT, event.getString("artifactType"));
+            assertEquals(ARTIFACT_NAME, event.getString("artifactName"));
+            assertEquals(json.getBytes(StandardCharsets.UTF_8).length, event.getLong("size"));
+            assertFalse(event.getBoolean("mapped"));
+        });
+    }
+
+    @Test
+    void mapping() {
+        // when
+        var events = record(() -> {
+            testingUtils.readInputObject(TEST_CASE, ARTIFACT_NAME, TestData.class);
+            testingUtils.jsonToObject(json, TestData.class);
+            testingUtils.objectToJson(TestData.create());
+        }, MappingEvent.NAME);
+
+        // then
+        assertEquals(List.of(MappingEvent.READ_OBJECT, MappingEvent.JSON_TO_OBJECT, MappingEvent.OBJECT_TO_JSON), events.stream().map(event -> event.getString("operation")).toList());
+        events.forEach(event -> {
+            assertEquals(JacksonTestingUtils.class.getSimpleName(), event.getString("backend"));
+            assertEquals(TestData.class.getName(), event.getString("type"));
+        });
+        assertEquals(SUITE, events.getFirst().getString("suite"));
+        assertEquals(ARTIFACT_NAME, events.getFirst().getString("artifactName"));
+        assertEquals(json.length(), events.get(1).getLong("size"));
+    }
+
+    @Test
+    void assertion() {
+        // given
+        var mismatch = TestData.builder().id(TestData.ID).content("other content").build();
+
+        // when
+        var events = record(() -> {
+            testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, TestData.create());
+            assertThrows(AssertionError.class, () -> testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, mismatch));
+        }, AssertionEvent.NAME);
+
+        // then
+        assertEquals(2, events.size());
+        assertTrue(events.getFirst().getBoolean("passed"));
+        assertFalse(events.get(1).getBoolean("passed"));
+        assertEquals(SUITE, events.getFirst().getString("suite"));
+        assertEquals(ARTIFACT_NAME, events.getFirst().getString("artifactName"));
+        assertEquals("NON_EXTENSIBLE", events.getFirst().getString("mode"));
+    }
+
+    // --
+
+    @SneakyThrows
+    private List<RecordedEvent> record(Runnable action, String eventName) {
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == Thread.currentThread().threadId())
+            .toList();
+    }
+}
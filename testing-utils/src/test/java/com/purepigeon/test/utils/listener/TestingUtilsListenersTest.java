@@ -0,0 +1,204 @@
+package com.purepigeon.test.utils.listener;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.InMemoryArtifactSource;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.test.TestData;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestingUtilsListenersTest {
+
+    private static final String SUITE = "TestingUtilsListenersTest";
+    private static final String TEST_CASE = "listeners";
+    private static final String ARTIFACT_NAME = "TestData.json";
+
+    private static final ArtifactKey INPUT = new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, ARTIFACT_NAME);
+    private static final ArtifactKey EXPECTED = new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.EXPECTED, ARTIFACT_NAME);
+
+    private JacksonTestingUtils testingUtils;
+
+    private RecordingListener listener;
+
+    private String json;
+
+    @BeforeEach
+    void setUp() {
+        testingUtils = new JacksonTestingUtils(JsonMapper.builder().build());
+        json = testingUtils.objectToJson(TestData.create());
+        listener = new RecordingListener();
+
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactSource(new InMemoryArtifactSource().put(INPUT, json).put(EXPECTED, json));
+        testingUtils.addListener(listener);
+    }
+
+    @Test
+    void read() {
+        // when
+        testingUtils.readInputString(TEST_CASE, ARTIFACT_NAME);
+        testingUtils.readInputObject(TEST_CASE, ARTIFACT_NAME, TestData.class);
+
+        // then
+        var size = json.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(List.of(
+            "read " + INPUT + " " + size + " false",
+            "read " + INPUT + " " + size + " false",
+            "parse " + TestData.class.getName() + " " + INPUT + " -1"
+        ), listener.calls);
+        assertTrue(listener.nanos.stream().allMatch(nanos -> nanos >= 0));
+    }
+
+    @Test
+    void mapping() {
+        // when
+        testingUtils.jsonToObject(json, TestData.class);
+        testingUtils.objectToJson(TestData.create());
+
+        // then
+        assertEquals(List.of(
+            "parse " + TestData.class.getName() + " null " + json.length(),
+            "serialize " + TestData.class.getName() + " " + json.length()
+        ), listener.calls);
+    }
+
+    @Test
+    void assertion() {
+        // given
+        var mismatch = TestData.builder().id(TestData.ID).content("other content").build();
+
+        // when
+        testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, TestData.create());
+        assertThrows(AssertionError.class, () -> testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, mismatch));
+
+        // then
+        var asserts = listener.calls.stream().filter(call -> call.startsWith("assert")).toList();
+        assertEquals(List.of(
+            "assert " + EXPECTED + " NON_EXTENSIBLE false true",
+            "assert " + EXPECTED + " NON_EXTENSIBLE false false"
+        ), asserts);
+    }
+
+    @Test
+    void assertionStreaming() {
+        // given
+        var array = testingUtils.objectToJson(List.of(TestData.create()));
+        testingUtils.setArtifactSource(new InMemoryArtifactSource().put(EXPECTED, array));
+
+        // when
+        testingUtils.assertObjectStreaming(TEST_CASE, ARTIFACT_NAME, List.of(TestData.create()), JSONCompareMode.STRICT);
+
+        // then
+        assertTrue(listener.calls.contains("assert " + EXPECTED + " STRICT true true"));
+    }
+
+    @Test
+    void removeListener() {
+        // given
+        testingUtils.addListener(listener);
+        assertEquals(List.of(listener), testingUtils.getListeners());
+
+        // when
+        testingUtils.removeListener(listener);
+        testingUtils.readInputString(TEST_CASE, ARTIFACT_NAME);
+
+        // then
+        assertEquals(List.of(), testingUtils.getListeners());
+        assertEquals(List.of(), listener.calls);
+    }
+
+    @Test
+    void empty() {
+        // given
+        var listeners = TestingUtilsListeners.empty();
+
+        // expect
+        assertTrue(listeners.isEmpty());
+        assertEquals(0, listeners.start());
+        listeners.fireParse(testingUtils, TestData.class, TEST_CASE, DefaultArtifactType.INPUT, ARTIFACT_NAME, 0);
+    }
+
+    @Test
+    void order() {
+        // given
+        var listeners = TestingUtilsListeners.empty();
+        var first = new RecordingListener();
+        var second = new RecordingListener();
+        var third = new RecordingListener();
+        listeners.add(first);
+        listeners.add(second);
+        listeners.add(third);
+
+        // when
+        listeners.remove(second);
+
+        // then
+        assertEquals(List.of(first, third), listeners.get());
+    }
+
+    private static final class RecordingListener implements TestingUtilsListener {
+
+        private final List<String> calls = new ArrayList<>();
+
+        private final List<Long> nanos = new ArrayList<>();
+
+        @Override
+        public void onRead(TestingUtils source, ArtifactKey artifact, long size, boolean mapped, long nanos) {
+            record("read " + artifact + " " + size + " " + mapped, nanos);
+        }
+
+        @Override
+        public void onParse(TestingUtils source, Type type, @Nullable ArtifactKey artifact, long length, long nanos) {
+            record("parse " + type.getTypeName() + " " + artifact + " " + length, nanos);
+        }
+
+        @Override
+        public void onSerialize(TestingUtils source, @Nullable Class<?> type, long length, long nanos) {
+            record("serialize " + (type == null ? null : type.getName()) + " " + length, nanos);
+        }
+
+        @Override
+        public void onAssert(TestingUtils source, ArtifactKey expected, JSONCompareMode mode, boolean streaming, boolean passed, long nanos) {
+            record("assert " + expected + " " + mode + " " + streaming + " " + passed, nanos);
+        }
+
+        private void record(String call, long nanos) {
+            calls.add(call);
+            this.nanos.add(nanos);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.purepigeon.test.utils.report;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.DefaultArtifactType;
+import com.purepigeon.test.utils.TestingUtils;
+import com.purepigeon.test.utils.annotation.Suite;
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.artifact.ArtifactKey;
+import com.purepigeon.test.utils.artifact.InMemoryArtifactSource;
+import com.purepigeon.test.utils.context.TestContext;
+import com.purepigeon.test.utils.context.TestContextHolder;
+import com.purepigeon.test.utils.impl.jackson.JacksonTestingUtils;
+import com.purepigeon.test.utils.test.TestData;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class PerformanceReportTest {
+
+    private static final String SUITE = "PerformanceReportTest";
+    private static final String TEST_CASE = "report";
+    private static final String ARTIFACT_NAME = "TestData.json";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void report() {
+        // given
+        var testingUtils = new JacksonTestingUtils(jsonMapper);
+        var json = testingUtils.objectToJson(TestData.create());
+
+        testingUtils.setSuite(SUITE);
+        testingUtils.setArtifactSource(new InMemoryArtifactSource()
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.INPUT, ARTIFACT_NAME), json)
+            .put(new ArtifactKey(SUITE, TEST_CASE, DefaultArtifactType.EXPECTED, ARTIFACT_NAME), json));
+
+        var report = PerformanceReport.start(tempDir);
+
+        // when
+        try (var ignored = TestContextHolder.bind(new TestContext(SUITE, TEST_CASE))) {
+            var testRun = report.startTest(SUITE, TEST_CASE);
+
+            var data = testingUtils.readInputObject(TEST_CASE, ARTIFACT_NAME, TestData.class);
+            testingUtils.assertObject(TEST_CASE, ARTIFACT_NAME, data);
+
+            testRun.finish();
+        }
+
+        report.close();
+
+        // then
+        var result = readJson(PerformanceReport.JSON_FILE_NAME);
+        var suite = result.get("suites").get(0);
+        var timings = suite.get("testCases").get(0).get("timings");
+
+        assertEquals(SUITE, suite.get("suite").asString());
+        assertEquals(TEST_CASE, suite.get("testCases").get(0).get("testCase").asString());
+        assertEquals(1, timings.get("tests").asInt());
+        assertEquals(2L * json.getBytes(StandardCharsets.UTF_8).length, timings.get("bytesRead").asLong());
+        assertTrue(timings.get("ioNanos").asLong() > 0);
+        assertTrue(timings.get("deserializationNanos").asLong() > 0);
+        assertTrue(timings.get("comparisonNanos").asLong() > 0);
+        assertTrue(timings.get("totalNanos").asLong() <= timings.get("wallNanos").asLong());
+
+        var inputPath = SUITE + "/" + TEST_CASE + "/" + DefaultArtifactType.INPUT + "/" + ARTIFACT_NAME;
+        var artifacts = result.get("slowestArtifacts");
+        var artifact = IntStream.range(0, artifacts.size())
+            .mapToObj(artifacts::get)
+            .filter(node -> node.get("artifact").asString().equals(inputPath))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(2, artifacts.size());
+        assertEquals(1, artifact.get("reads").asInt());
+
+        assertTrue(Files.exists(tempDir.resolve(PerformanceReport.HTML_FILE_NAME)));
+    }
+
+    @Test
+    void report_mergesForks() {
+        // given
+        var testingUtils = new JacksonTestingUtils(jsonMapper);
+        var first = PerformanceReport.start(tempDir, "1");
+        var second = PerformanceReport.start(tempDir, "2");
+
+        // when
+        for (var report : List.of(first, second)) {
+            var testCase = report == first ? "first" : "second\tfork";
+
+            try (var ignored = TestContextHolder.bind(new TestContext(SUITE, testCase))) {
+                var testRun = report.startTest(SUITE, testCase);
+                testingUtils.objectToJson(TestData.create());
+                testRun.finish();
+            }
+        }
+
+        first.close();
+        second.close();
+
+        // then
+        var suite = readJson(PerformanceReport.JSON_FILE_NAME).get("suites").get(0);
+        var testCases = suite.get("testCases");
+
+        assertEquals(SUITE, suite.get("suite").asString());
+        assertEquals(2, suite.get("timings").get("tests").asInt());
+        assertEquals(Set.of("first", "second\tfork"), Set.of(testCases.get(0).get("testCase").asString(), testCases.get(1).get("testCase").asString()));
+        assertTrue(Files.exists(tempDir.resolve("testing-utils-report-1.tsv")));
+        assertTrue(Files.exists(tempDir.resolve("testing-utils-report-2.tsv")));
+    }
+
+    @Test
+    void start_invalidForkId() {
+        assertThrows(IllegalArgumentException.class, () -> PerformanceReport.start(tempDir, "../fork"));
+    }
+
+    @Test
+    void extension() {
+        // when
+        EngineTestKit.engine(JupiterEngineDescriptor.ENGINE_ID)
+            .selectors(selectClass(ReportedTest.class))
+            .configurationParameter(JupiterConfiguration.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME, "*")
+            .configurationParameter(PerformanceReport.ENABLED_PARAMETER, "true")
+            .configurationParameter(PerformanceReport.DIRECTORY_PARAMETER, tempDir.toString())
+            .execute()
+            .testEvents()
+            .assertStatistics(stats -> stats.succeeded(2));
+
+        // then
+        var suite = readJson(PerformanceReport.JSON_FILE_NAME).get("suites").get(0);
+
+        assertEquals("reported/ReportedTest", suite.get("suite").asString());
+        assertEquals(2, suite.get("timings").get("tests").asInt());
+        assertTrue(suite.get("timings").get("serializationNanos").asLong() > 0);
+        assertTrue(suite.get("timings").get("allocatedBytes").asLong() > 0);
+    }
+
+    // --
+
+    private JsonNode readJson(String fileName) {
+        return jsonMapper.readTree(tempDir.resolve(fileName).toFile());
+    }
+
+    @WithTestingUtils
+    @Suite("reported")
+    @Disabled("Excluded from automatic global test run")
+    static class ReportedTest {
+
+        private final TestingUtils testingUtils = new JacksonTestingUtils(JsonMapper.builder().build());
+
+        @Test
+        void first() {
+            testingUtils.objectToJson(TestData.create());
+        }
+
+        @Test
+        void second() {
+            testingUtils.objectToJson(TestData.create());
+        }
+    }
+}
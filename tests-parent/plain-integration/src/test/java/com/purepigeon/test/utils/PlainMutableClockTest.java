@@ -0,0 +1,82 @@
+package com.purepigeon.test.utils;
+
+/*-
+ * #%L
+ * Testing Utils
+ * %%
+ * Copyright (C) 2025 Purepigeon
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.purepigeon.test.utils.annotation.FixedClock;
+import com.purepigeon.test.utils.annotation.WithTestingUtils;
+import com.purepigeon.test.utils.clock.MutableClock;
+import com.purepigeon.test.utils.clock.VirtualTimeScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@FixedClock
+@WithTestingUtils
+class PlainMutableClockTest {
+
+    private static final Instant DEFAULT_INSTANT = Instant.parse(FixedClock.DEFAULT_INSTANT);
+
+    private final MutableClock clock = new MutableClock(Instant.EPOCH);
+
+    private final ScheduledExecutorService executor = new VirtualTimeScheduler(clock);
+
+    @Test
+    void testAdvance(MutableClock handle) {
+        // when
+        handle.advance(Duration.ofHours(1));
+
+        // then
+        assertSame(clock, handle);
+        assertEquals(DEFAULT_INSTANT.plus(Duration.ofHours(1)), clock.instant());
+    }
+
+    @Test
+    void testScheduler(VirtualTimeScheduler scheduler) {
+        // given
+        var future = executor.schedule(clock::instant, 1, TimeUnit.DAYS);
+
+        // when
+        scheduler.advance(Duration.ofDays(2));
+
+        // then
+        assertEquals(DEFAULT_INSTANT.plus(Duration.ofDays(1)), future.resultNow());
+    }
+
+    @Test
+    @FixedClock(tick = {"PT1S", "PT10S"})
+    void testTick() {
+        // when
+        Clock ticking = clock;
+        ticking.instant();
+        ticking.instant();
+
+        // then
+        assertEquals(DEFAULT_INSTANT.plusSeconds(11), ticking.instant());
+        assertEquals(DEFAULT_INSTANT.plusSeconds(21), ticking.instant());
+    }
+}